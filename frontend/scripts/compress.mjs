@@ -0,0 +1,47 @@
+// Writes .br and .gz variants next to compressible build outputs so the backend
+// can serve them without compressing per request.
+import { readdir, readFile, stat, writeFile } from 'node:fs/promises'
+import { join, extname } from 'node:path'
+import { brotliCompressSync, gzipSync, constants } from 'node:zlib'
+
+const outDir = new URL('../dist/', import.meta.url).pathname
+const compressible = new Set(['.html', '.js', '.mjs', '.css', '.svg', '.json', '.txt', '.xml', '.map', '.ico', '.wasm'])
+const minSize = 1024
+
+async function* walk(dir) {
+  for (const entry of await readdir(dir, { withFileTypes: true })) {
+    const path = join(dir, entry.name)
+    if (entry.isDirectory()) {
+      yield* walk(path)
+    } else {
+      yield path
+    }
+  }
+}
+
+let files = 0
+let before = 0
+let after = 0
+for await (const file of walk(outDir)) {
+  if (!compressible.has(extname(file)) || (await stat(file)).size < minSize) {
+    continue
+  }
+  const source = await readFile(file)
+  const brotli = brotliCompressSync(source, {
+    params: {
+      [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+      [constants.BROTLI_PARAM_SIZE_HINT]: source.length,
+    },
+  })
+  const gzip = gzipSync(source, { level: constants.Z_BEST_COMPRESSION })
+
+  // A variant that does not save anything is not worth negotiating
+  if (brotli.length < source.length) await writeFile(`${file}.br`, brotli)
+  if (gzip.length < source.length) await writeFile(`${file}.gz`, gzip)
+
+  files++
+  before += source.length
+  after += Math.min(brotli.length, gzip.length, source.length)
+}
+
+console.log(`compressed ${files} files: ${(before / 1024).toFixed(1)} KiB -> ${(after / 1024).toFixed(1)} KiB`)
@@ -6,12 +6,14 @@ import type {
   RegisterRequest,
   User,
   Wallet,
+  BalanceResponse,
   CreateWalletRequest,
   Transaction,
   DepositRequest,
   WithdrawRequest,
   TransferRequest,
   PageResponse,
+  DashboardResponse,
 } from '../types';
 
 // Auth API
@@ -45,6 +47,14 @@ export const userApi = {
   },
 };
 
+// Dashboard API
+export const dashboardApi = {
+  getDashboard: async (recent = 10) => {
+    const response = await api.get<ApiResponse<DashboardResponse>>('/dashboard', { params: { recent } });
+    return response.data;
+  },
+};
+
 // Wallet API
 export const walletApi = {
   getWallets: async () => {
@@ -66,6 +76,11 @@ export const walletApi = {
     const response = await api.get<ApiResponse<Wallet>>(`/wallets/${walletId}/balance`);
     return response.data;
   },
+
+  getBalances: async (walletIds: number[]) => {
+    const response = await api.post<ApiResponse<BalanceResponse[]>>('/wallets/balances', { walletIds });
+    return response.data;
+  },
 };
 
 // Transaction API
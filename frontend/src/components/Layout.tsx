@@ -22,6 +22,7 @@ import {
 } from 'lucide-react';
 import { useAuth } from '../hooks/useAuth';
 import { useNotifications } from '../hooks/useNotifications';
+import { useLiveUpdates } from '../hooks/useLiveUpdates';
 
 interface LayoutProps {
   darkMode: boolean;
@@ -80,6 +81,7 @@ const Layout = ({ darkMode, toggleDarkMode }: LayoutProps) => {
     clearNotification,
     clearAll 
   } = useNotifications();
+  useLiveUpdates();
 
   // Close dropdowns when clicking outside
   useEffect(() => {
@@ -0,0 +1,123 @@
+import { useEffect, useRef } from 'react';
+import { useDispatch, useSelector } from 'react-redux';
+import type { RootState, AppDispatch } from '../store/store';
+import { balanceChanged, transactionReceived, fetchWallets, fetchTransactions } from '../store/walletSlice';
+import { useNotifications } from './useNotifications';
+import type { BalanceResponse, Transaction } from '../types';
+
+const API_URL = import.meta.env.VITE_API_URL || '';
+const MAX_RETRY_DELAY = 30000;
+
+/**
+ * Keeps wallets and recent transactions current from the server's event stream
+ * instead of polling. EventSource cannot send the bearer token, so the stream
+ * is read with fetch. Reconnects with backoff and reloads whenever events may
+ * have been missed.
+ */
+export const useLiveUpdates = () => {
+  const dispatch = useDispatch<AppDispatch>();
+  const isAuthenticated = useSelector((state: RootState) => state.auth.isAuthenticated);
+  const wallets = useSelector((state: RootState) => state.wallet.wallets);
+  const { addTransactionNotification } = useNotifications();
+
+  // Read by the stream loop without restarting it
+  const walletIds = useRef(new Set<number>());
+  const notify = useRef(addTransactionNotification);
+  walletIds.current = new Set(wallets.map(w => w.id));
+  notify.current = addTransactionNotification;
+
+  useEffect(() => {
+    if (!isAuthenticated) return;
+
+    const controller = new AbortController();
+    let retryDelay = 1000;
+    let connected = false;
+
+    const resync = () => {
+      dispatch(fetchWallets());
+      dispatch(fetchTransactions({ size: 20 }));
+    };
+
+    const handle = (event: string, data: string) => {
+      switch (event) {
+        case 'balance':
+          dispatch(balanceChanged(JSON.parse(data) as BalanceResponse));
+          break;
+        case 'transaction': {
+          const transaction = JSON.parse(data) as Transaction;
+          dispatch(transactionReceived(transaction));
+          // Our own transfers are announced by the page that made them
+          const incoming = transaction.destinationWalletId !== undefined
+            && walletIds.current.has(transaction.destinationWalletId)
+            && (transaction.sourceWalletId === undefined || !walletIds.current.has(transaction.sourceWalletId));
+          if (incoming && transaction.type === 'TRANSFER') {
+            notify.current(transaction);
+          }
+          break;
+        }
+        case 'resync':
+          resync();
+          break;
+      }
+    };
+
+    const read = async () => {
+      const response = await fetch(`${API_URL}/api/v1/notifications/stream`, {
+        headers: {
+          Accept: 'text/event-stream',
+          Authorization: `Bearer ${localStorage.getItem('accessToken') ?? ''}`,
+        },
+        signal: controller.signal,
+      });
+      if (response.status === 401) {
+        // Goes through the API client, which refreshes the token
+        resync();
+        return;
+      }
+      if (!response.ok || !response.body) return;
+
+      // Anything may have changed while disconnected
+      if (connected) resync();
+      connected = true;
+      retryDelay = 1000;
+
+      const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+      let buffer = '';
+      for (;;) {
+        const { value, done } = await reader.read();
+        if (done) return;
+        buffer += value;
+        let end;
+        while ((end = buffer.indexOf('\n\n')) >= 0) {
+          const block = buffer.slice(0, end);
+          buffer = buffer.slice(end + 2);
+          let event = 'message';
+          const data: string[] = [];
+          for (const line of block.split('\n')) {
+            if (line.startsWith('event:')) event = line.slice(6).trim();
+            else if (line.startsWith('data:')) data.push(line.slice(5));
+          }
+          if (data.length > 0) handle(event, data.join('\n'));
+        }
+      }
+    };
+
+    const run = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          await read();
+        } catch {
+          // Network error or abort; retried below unless unmounted
+        }
+        if (controller.signal.aborted) return;
+        await new Promise(resolve => setTimeout(resolve, retryDelay));
+        retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY);
+      }
+    };
+
+    run();
+    return () => controller.abort();
+  }, [isAuthenticated, dispatch]);
+};
+
+export default useLiveUpdates;
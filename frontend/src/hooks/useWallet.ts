@@ -2,6 +2,7 @@ import { useSelector, useDispatch } from 'react-redux';
 import type { RootState, AppDispatch } from '../store/store';
 import {
   fetchWallets,
+  fetchDashboard,
   createWallet,
   fetchTransactions,
   deposit,
@@ -29,6 +30,7 @@ export const useWallet = () => {
     totalBalance,
     totalTransactions,
     fetchWallets: () => dispatch(fetchWallets()),
+    fetchDashboard: (recent?: number) => dispatch(fetchDashboard(recent)),
     createWallet: (data: CreateWalletRequest) => dispatch(createWallet(data)),
     fetchTransactions: (params: { walletId?: number; page?: number; size?: number } = {}) =>
       dispatch(fetchTransactions(params)),
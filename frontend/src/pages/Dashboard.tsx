@@ -33,13 +33,12 @@ const itemVariants = {
 const Dashboard = () => {
     const { user } = useAuth();
     const navigate = useNavigate();
-    const { wallets, transactions, totalBalance, fetchWallets, fetchTransactions, isLoading } = useWallet();
+    const { wallets, transactions, totalBalance, fetchDashboard, isLoading } = useWallet();
     const { formatAmount } = useSettings();
     const [searchTerm, setSearchTerm] = useState('');
 
     useEffect(() => {
-        fetchWallets();
-        fetchTransactions({ size: 10 });
+        fetchDashboard(10);
     }, []);
 
     // Calculate real statistics from transactions
@@ -1,5 +1,6 @@
 import { createSlice, createAsyncThunk, PayloadAction } from '@reduxjs/toolkit';
 import { authApi, userApi } from '../api/services';
+import { fetchDashboard } from './walletSlice';
 import type { User, LoginRequest, RegisterRequest } from '../types';
 
 interface AuthState {
@@ -129,6 +130,10 @@ const authSlice = createSlice({
         state.isAuthenticated = false;
         state.user = null;
       })
+      // The dashboard payload carries a fresh profile
+      .addCase(fetchDashboard.fulfilled, (state, action) => {
+        state.user = action.payload.user;
+      })
       // Logout
       .addCase(logout.fulfilled, (state) => {
         state.user = null;
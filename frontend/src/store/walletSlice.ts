@@ -1,6 +1,6 @@
-import { createSlice, createAsyncThunk } from '@reduxjs/toolkit';
-import { walletApi, transactionApi } from '../api/services';
-import type { Wallet, Transaction, CreateWalletRequest, DepositRequest, WithdrawRequest, TransferRequest } from '../types';
+import { createSlice, createAsyncThunk, type PayloadAction } from '@reduxjs/toolkit';
+import { walletApi, transactionApi, dashboardApi } from '../api/services';
+import type { Wallet, Transaction, BalanceResponse, CreateWalletRequest, DepositRequest, WithdrawRequest, TransferRequest } from '../types';
 
 interface WalletState {
   wallets: Wallet[];
@@ -36,6 +36,22 @@ export const fetchWallets = createAsyncThunk(
   }
 );
 
+export const fetchDashboard = createAsyncThunk(
+  'wallet/fetchDashboard',
+  async (recent: number = 10, { rejectWithValue }) => {
+    try {
+      const response = await dashboardApi.getDashboard(recent);
+      if (response.success) {
+        return response.data;
+      }
+      return rejectWithValue(response.message || 'Failed to load dashboard');
+    } catch (error: unknown) {
+      const err = error as { response?: { data?: { message?: string } } };
+      return rejectWithValue(err.response?.data?.message || 'Failed to load dashboard');
+    }
+  }
+);
+
 export const createWallet = createAsyncThunk(
   'wallet/createWallet',
   async (data: CreateWalletRequest, { rejectWithValue }) => {
@@ -135,6 +151,20 @@ const walletSlice = createSlice({
     selectWallet: (state, action) => {
       state.selectedWallet = action.payload;
     },
+    // Pushed from the notification stream
+    balanceChanged: (state, action: PayloadAction<BalanceResponse>) => {
+      const wallet = state.wallets.find(w => w.id === action.payload.walletId);
+      if (wallet) {
+        wallet.balance = action.payload.balance;
+        wallet.availableBalance = action.payload.availableBalance;
+      }
+    },
+    transactionReceived: (state, action: PayloadAction<Transaction>) => {
+      if (!state.transactions.some(t => t.id === action.payload.id)) {
+        state.transactions.unshift(action.payload);
+        state.totalTransactions += 1;
+      }
+    },
   },
   extraReducers: (builder) => {
     builder
@@ -151,6 +181,20 @@ const walletSlice = createSlice({
         state.isLoading = false;
         state.error = action.payload as string;
       })
+      // Fetch dashboard
+      .addCase(fetchDashboard.pending, (state) => {
+        state.isLoading = true;
+        state.error = null;
+      })
+      .addCase(fetchDashboard.fulfilled, (state, action) => {
+        state.isLoading = false;
+        state.wallets = action.payload.wallets;
+        state.transactions = action.payload.recentTransactions;
+      })
+      .addCase(fetchDashboard.rejected, (state, action) => {
+        state.isLoading = false;
+        state.error = action.payload as string;
+      })
       // Create wallet
       .addCase(createWallet.pending, (state) => {
         state.isLoading = true;
@@ -193,5 +237,5 @@ const walletSlice = createSlice({
   },
 });
 
-export const { clearError, selectWallet } = walletSlice.actions;
+export const { clearError, selectWallet, balanceChanged, transactionReceived } = walletSlice.actions;
 export default walletSlice.reducer;
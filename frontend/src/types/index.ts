@@ -95,6 +95,14 @@ export interface Transaction {
   completedAt?: string;
 }
 
+// Dashboard Types
+export interface DashboardResponse {
+  user: User;
+  wallets: Wallet[];
+  totalBalances: Record<string, number>;
+  recentTransactions: Transaction[];
+}
+
 export interface DepositRequest {
   walletId: number;
   amount: number;
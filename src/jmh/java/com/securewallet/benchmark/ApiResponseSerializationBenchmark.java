@@ -0,0 +1,106 @@
+package com.securewallet.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.securewallet.dto.response.ApiResponse;
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.dto.response.WalletResponse;
+import com.securewallet.enums.TransactionStatus;
+import com.securewallet.enums.TransactionType;
+import com.securewallet.enums.WalletStatus;
+import com.securewallet.enums.WalletType;
+import com.securewallet.exception.ErrorResponses;
+import com.securewallet.money.Money;
+import com.securewallet.money.MoneyJsonSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<TransactionResponse> transactionResponse;
+    private ApiResponse<List<WalletResponse>> walletListResponse;
+    private ApiResponse<Void> errorResponse;
+    private ErrorResponses errorResponses;
+
+    @Setup
+    public void setUp() {
+        // Mirrors the mapper Spring Boot configures for the MVC message converters
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .serializers(new MoneyJsonSerializer())
+                .build();
+
+        LocalDateTime now = LocalDateTime.now();
+        transactionResponse = ApiResponse.success(TransactionResponse.builder()
+                .id(1234L)
+                .referenceNumber("TXN20240101ABCD1234")
+                .sourceWalletId(10L)
+                .sourceWalletName("Checking")
+                .destinationWalletId(11L)
+                .destinationWalletName("Savings")
+                .amount(Money.of("250.0000", "USD"))
+                .fee(Money.zero("USD"))
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .description("Transfer")
+                .createdAt(now)
+                .completedAt(now)
+                .build(), "Transfer successful");
+
+        List<WalletResponse> wallets = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            wallets.add(WalletResponse.builder()
+                    .id(i)
+                    .walletNumber("W1700000000000" + i)
+                    .name("Wallet " + i)
+                    .walletType(WalletType.CHECKING)
+                    .balance(Money.of("1520.5000", "USD"))
+                    .availableBalance(Money.of("1520.5000", "USD"))
+                    .minimumBalance(Money.zero("USD"))
+                    .dailyTransactionLimit(Money.of("100000.0000", "USD"))
+                    .currency("USD")
+                    .status(WalletStatus.ACTIVE)
+                    .createdAt(now)
+                    .build());
+        }
+        walletListResponse = ApiResponse.success(wallets);
+        errorResponse = ApiResponse.error("Insufficient balance in wallet 10 for amount 250", "INSUFFICIENT_BALANCE");
+        errorResponses = new ErrorResponses(new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public byte[] transaction() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(transactionResponse);
+    }
+
+    @Benchmark
+    public byte[] walletList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(walletListResponse);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+
+    @Benchmark
+    public byte[] errorTemplate() {
+        return errorResponses.respond(HttpStatus.BAD_REQUEST, "INSUFFICIENT_BALANCE",
+                "Insufficient balance in wallet 10 for amount 250").getBody();
+    }
+}
@@ -0,0 +1,83 @@
+package com.securewallet.benchmark;
+
+import com.securewallet.entity.Wallet;
+import com.securewallet.enums.WalletType;
+import com.securewallet.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The wallet's balance operations on {@link Money} minor units, including its
+ * sign and currency checks, against the {@link BigDecimal} arithmetic the wallet
+ * entity used before.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+
+    private BigDecimal decimalBalance;
+    private BigDecimal decimalMinimum;
+    private BigDecimal decimalAmount;
+
+    private Wallet wallet;
+    private Money moneyAmount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        decimalBalance = new BigDecimal("1000000.0000");
+        decimalMinimum = new BigDecimal("100.0000");
+        decimalAmount = new BigDecimal("12.3456");
+
+        wallet = Wallet.builder()
+                .id(1L)
+                .name("Benchmark")
+                .walletType(WalletType.CHECKING)
+                .balance(Money.of("1000000.0000", "USD"))
+                .minimumBalance(Money.of("100.0000", "USD"))
+                .build();
+        moneyAmount = Money.of("12.3456", "USD");
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalCreditThenDebit() {
+        decimalBalance = decimalBalance.add(decimalAmount);
+        if (decimalBalance.compareTo(decimalAmount) >= 0) {
+            decimalBalance = decimalBalance.subtract(decimalAmount);
+        }
+        return decimalBalance;
+    }
+
+    @Benchmark
+    public Money moneyCreditThenDebit() {
+        wallet.credit(moneyAmount);
+        wallet.debit(moneyAmount);
+        return wallet.getBalance();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalAvailableBalance() {
+        return decimalBalance.subtract(decimalMinimum);
+    }
+
+    @Benchmark
+    public Money moneyAvailableBalance() {
+        return wallet.getAvailableBalance();
+    }
+
+    // Fresh values, as when a row is mapped: BigDecimal caches its string form
+    @Benchmark
+    public String bigDecimalToJsonNumber() {
+        return BigDecimal.valueOf(wallet.getBalance().getMinorUnits(), Money.SCALE).toString();
+    }
+
+    @Benchmark
+    public String moneyToJsonNumber() {
+        return wallet.getBalance().toPlainString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.securewallet.benchmark;
+
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.entity.Transaction;
+import com.securewallet.entity.Wallet;
+import com.securewallet.enums.TransactionStatus;
+import com.securewallet.enums.TransactionType;
+import com.securewallet.money.Money;
+import com.securewallet.service.impl.TransactionResponseMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to {@link TransactionResponse} mapping, done for every row of a history page.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TransactionMappingBenchmark {
+
+    private TransactionResponseMapper mapper;
+    private Transaction transfer;
+
+    @Setup
+    public void setUp() {
+        mapper = new TransactionResponseMapper();
+
+        LocalDateTime now = LocalDateTime.now();
+        transfer = Transaction.builder()
+                .id(1234L)
+                .referenceNumber("TXN20240101ABCD1234")
+                .sourceWallet(Wallet.builder().id(10L).name("Checking").build())
+                .destinationWallet(Wallet.builder().id(11L).name("Savings").build())
+                .amount(Money.of("250.0000", "USD"))
+                .type(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .description("Transfer")
+                .createdAt(now)
+                .completedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public TransactionResponse mapTransfer() {
+        return mapper.toResponse(transfer);
+    }
+}
@@ -0,0 +1,49 @@
+package com.securewallet.benchmark;
+
+import com.securewallet.entity.Wallet;
+import com.securewallet.enums.WalletType;
+import com.securewallet.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WalletArithmeticBenchmark {
+
+    private Wallet wallet;
+    private Money amount;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        wallet = Wallet.builder()
+                .id(1L)
+                .name("Benchmark")
+                .walletType(WalletType.CHECKING)
+                .balance(Money.of("1000000.0000", "USD"))
+                .minimumBalance(Money.of("100.0000", "USD"))
+                .build();
+        amount = Money.of("12.3456", "USD");
+    }
+
+    @Benchmark
+    public Money creditThenDebit() {
+        wallet.credit(amount);
+        wallet.debit(amount);
+        return wallet.getBalance();
+    }
+
+    @Benchmark
+    public Money availableBalance() {
+        return wallet.getAvailableBalance();
+    }
+
+    @Benchmark
+    public boolean sufficientBalanceCheck() {
+        return wallet.canCover(amount);
+    }
+}
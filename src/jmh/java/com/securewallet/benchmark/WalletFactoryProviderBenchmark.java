@@ -0,0 +1,42 @@
+package com.securewallet.benchmark;
+
+import com.securewallet.enums.WalletType;
+import com.securewallet.pattern.factory.CheckingWalletFactory;
+import com.securewallet.pattern.factory.InvestmentWalletFactory;
+import com.securewallet.pattern.factory.MerchantWalletFactory;
+import com.securewallet.pattern.factory.SavingsWalletFactory;
+import com.securewallet.pattern.factory.WalletFactory;
+import com.securewallet.pattern.factory.WalletFactoryProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WalletFactoryProviderBenchmark {
+
+    @Param({"SAVINGS", "MERCHANT"})
+    private WalletType walletType;
+
+    private WalletFactoryProvider provider;
+
+    @Setup
+    public void setUp() {
+        provider = new WalletFactoryProvider(List.of(
+                new SavingsWalletFactory(),
+                new CheckingWalletFactory(),
+                new InvestmentWalletFactory(),
+                new MerchantWalletFactory()));
+        provider.init();
+    }
+
+    @Benchmark
+    public WalletFactory getFactory() {
+        return provider.getFactory(walletType);
+    }
+}
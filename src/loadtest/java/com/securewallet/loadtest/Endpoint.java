@@ -0,0 +1,8 @@
+package com.securewallet.loadtest;
+
+public enum Endpoint {
+    LOGIN,
+    DEPOSIT,
+    TRANSFER,
+    HISTORY
+}
@@ -0,0 +1,77 @@
+package com.securewallet.loadtest;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+public class LoadTestConfig {
+
+    private int users = 200;
+    private int walletsPerUser = 2;
+    private int clients = 64;
+    private Duration warmup = Duration.ofSeconds(10);
+    private Duration duration = Duration.ofSeconds(60);
+    private BigDecimal initialBalance = new BigDecimal("10000");
+    private final Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+
+    public LoadTestConfig() {
+        mix.put(Endpoint.LOGIN, 2);
+        mix.put(Endpoint.DEPOSIT, 28);
+        mix.put(Endpoint.TRANSFER, 40);
+        mix.put(Endpoint.HISTORY, 30);
+    }
+
+    /**
+     * Parses {@code key=value} arguments, e.g.
+     * {@code users=500 clients=200 duration=120 mix=login:5,deposit:25,transfer:40,history:30}.
+     */
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String trimmed = arg.startsWith("--") ? arg.substring(2) : arg;
+            int eq = trimmed.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            options.put(trimmed.substring(0, eq), trimmed.substring(eq + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig();
+        options.forEach((key, value) -> {
+            switch (key) {
+                case "users" -> config.users = Integer.parseInt(value);
+                case "wallets-per-user" -> config.walletsPerUser = Integer.parseInt(value);
+                case "clients" -> config.clients = Integer.parseInt(value);
+                case "warmup" -> config.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> config.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "initial-balance" -> config.initialBalance = new BigDecimal(value);
+                case "mix" -> config.parseMix(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + key);
+            }
+        });
+
+        if (config.walletsPerUser < 1 || config.users < 2) {
+            throw new IllegalArgumentException("Need at least 2 users with 1 wallet each to drive transfers");
+        }
+        return config;
+    }
+
+    private void parseMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] entry = part.split(":");
+            mix.put(Endpoint.valueOf(entry[0].trim().toUpperCase()), Integer.parseInt(entry[1].trim()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", walletsPerUser=" + walletsPerUser + ", clients=" + clients
+                + ", warmup=" + warmup.toSeconds() + "s, duration=" + duration.toSeconds() + "s, mix=" + mix;
+    }
+}
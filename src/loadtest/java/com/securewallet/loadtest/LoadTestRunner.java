@@ -0,0 +1,387 @@
+package com.securewallet.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.securewallet.SecureWalletApplication;
+import com.securewallet.entity.Role;
+import com.securewallet.entity.User;
+import com.securewallet.entity.Wallet;
+import com.securewallet.enums.WalletType;
+import com.securewallet.money.Money;
+import com.securewallet.pattern.factory.WalletFactoryProvider;
+import com.securewallet.repository.RoleRepository;
+import com.securewallet.repository.UserRepository;
+import com.securewallet.repository.WalletRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boots the application against a private in-memory H2 database, seeds users and
+ * wallets directly through the repositories, then drives a weighted mix of login,
+ * deposit, transfer and history requests over HTTP from concurrent clients.
+ * <p>
+ * Run with {@code mvn -P loadtest verify -DskipTests -Dloadtest.args="users=500 clients=200"}.
+ * The process exits non-zero if the post-run balance conservation check fails.
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "LoadTest#2024";
+    private static final int CHUNK_SIZE = 500;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+    private final LongAdder depositedCents = new LongAdder();
+
+    private String baseUrl;
+    private List<SeededUser> users;
+    private long[] allWalletIds;
+    private AtomicReferenceArray<String> tokens;
+    private Endpoint[] weightedEndpoints;
+
+    public LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats(endpoint));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("Load test configuration: " + config);
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SecureWalletApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.hikari.maximum-pool-size=" + Math.max(10, Math.min(config.getClients(), 50)),
+                        "--securewallet.rate-limit.enabled=false",
+                        "--logging.level.com.securewallet=WARN");
+
+        boolean balanced;
+        try {
+            LoadTestRunner runner = new LoadTestRunner(config);
+            runner.baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+            runner.seed(context);
+            runner.run();
+            balanced = runner.verifyConservation(context.getBean(JdbcTemplate.class));
+            runner.writeResult(Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json")), balanced);
+        } finally {
+            context.close();
+        }
+        System.exit(balanced ? 0 : 1);
+    }
+
+    private void seed(ConfigurableApplicationContext context) {
+        long start = System.nanoTime();
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        WalletRepository walletRepository = context.getBean(WalletRepository.class);
+        WalletFactoryProvider factoryProvider = context.getBean(WalletFactoryProvider.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        Role userRole = roleRepository.findByName("ROLE_USER")
+                .orElseThrow(() -> new IllegalStateException("ROLE_USER not initialized"));
+
+        users = new ArrayList<>(config.getUsers());
+        for (int from = 0; from < config.getUsers(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, config.getUsers());
+            int chunkStart = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = chunkStart; i < to; i++) {
+                    User user = User.builder()
+                            .email("loadtest-" + i + "@securewallet.local")
+                            .password(passwordHash)
+                            .firstName("Load")
+                            .lastName("User" + i)
+                            .build();
+                    user.addRole(userRole);
+                    user = userRepository.save(user);
+
+                    long[] walletIds = new long[config.getWalletsPerUser()];
+                    for (int w = 0; w < walletIds.length; w++) {
+                        Wallet wallet = factoryProvider.createWallet(WalletType.CHECKING, user, "Load wallet " + w);
+                        // Explicit numbers: generated ones can collide when thousands are created per second
+                        wallet.setWalletNumber("LT" + i + "-" + w);
+                        wallet.setBalance(Money.of(config.getInitialBalance(), wallet.getCurrency()));
+                        walletIds[w] = walletRepository.save(wallet).getId();
+                    }
+                    users.add(new SeededUser(user.getEmail(), walletIds));
+                }
+            });
+        }
+
+        allWalletIds = users.stream().flatMapToLong(u -> Arrays.stream(u.walletIds())).toArray();
+        tokens = new AtomicReferenceArray<>(users.size());
+        System.out.printf("Seeded %d users and %d wallets in %d ms%n",
+                users.size(), allWalletIds.length, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void run() throws Exception {
+        List<Endpoint> weighted = new ArrayList<>();
+        config.getMix().forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(endpoint);
+            }
+        });
+        weightedEndpoints = weighted.toArray(new Endpoint[0]);
+
+        try (ClientPool pool = new ClientPool(config.getClients())) {
+            long loginStart = System.nanoTime();
+            List<Future<?>> logins = new ArrayList<>();
+            for (int i = 0; i < users.size(); i++) {
+                int userIndex = i;
+                logins.add(pool.executor.submit(() -> login(userIndex)));
+            }
+            for (Future<?> login : logins) {
+                login.get();
+            }
+            System.out.printf("Logged in %d users in %d ms using %s%n", users.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - loginStart), pool.description);
+
+            long warmupEnd = System.nanoTime() + config.getWarmup().toNanos();
+            long runEnd = warmupEnd + config.getDuration().toNanos();
+            List<Future<?>> clients = new ArrayList<>();
+            for (int i = 0; i < config.getClients(); i++) {
+                int userIndex = i % users.size();
+                clients.add(pool.executor.submit(() -> drive(userIndex, runEnd)));
+            }
+
+            sleepUntil(warmupEnd);
+            stats.values().forEach(EndpointStats::reset);
+            long measureStart = System.nanoTime();
+            System.out.println("Warmup complete, measuring...");
+            for (Future<?> client : clients) {
+                client.get();
+            }
+            double seconds = (System.nanoTime() - measureStart) / 1e9;
+            stats.values().forEach(EndpointStats::freeze);
+            report(seconds);
+        }
+    }
+
+    private void drive(int userIndex, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Endpoint endpoint = weightedEndpoints[random.nextInt(weightedEndpoints.length)];
+            switch (endpoint) {
+                case LOGIN -> login(userIndex);
+                case DEPOSIT -> deposit(userIndex, random);
+                case TRANSFER -> transfer(userIndex, random);
+                case HISTORY -> history(userIndex, random);
+            }
+        }
+    }
+
+    private void login(int userIndex) {
+        String body = "{\"email\":\"" + users.get(userIndex).email() + "\",\"password\":\"" + PASSWORD + "\"}";
+        HttpResponse<String> response = send(Endpoint.LOGIN, post("/auth/login", body, null));
+        if (response != null && response.statusCode() == 200) {
+            try {
+                JsonNode json = objectMapper.readTree(response.body());
+                tokens.set(userIndex, json.path("data").path("accessToken").asText());
+            } catch (IOException ex) {
+                throw new IllegalStateException("Unreadable login response", ex);
+            }
+        }
+    }
+
+    private void deposit(int userIndex, ThreadLocalRandom random) {
+        long cents = random.nextLong(100, 10_000);
+        long walletId = ownWallet(userIndex, random);
+        String body = "{\"walletId\":" + walletId + ",\"amount\":" + toAmount(cents) + ",\"description\":\"Load deposit\"}";
+        HttpResponse<String> response = send(Endpoint.DEPOSIT, post("/transactions/deposit", body, tokens.get(userIndex)));
+        if (response != null && response.statusCode() / 100 == 2) {
+            depositedCents.add(cents);
+        }
+    }
+
+    private void transfer(int userIndex, ThreadLocalRandom random) {
+        long source = ownWallet(userIndex, random);
+        long destination;
+        do {
+            destination = allWalletIds[random.nextInt(allWalletIds.length)];
+        } while (destination == source);
+        long cents = random.nextLong(100, 5_000);
+        String body = "{\"sourceWalletId\":" + source + ",\"destinationWalletId\":" + destination
+                + ",\"amount\":" + toAmount(cents) + ",\"description\":\"Load transfer\"}";
+        send(Endpoint.TRANSFER, post("/transactions/transfer", body, tokens.get(userIndex)));
+    }
+
+    private void history(int userIndex, ThreadLocalRandom random) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/transactions?size=20&walletId="
+                        + ownWallet(userIndex, random)))
+                .header("Authorization", "Bearer " + tokens.get(userIndex))
+                .GET()
+                .build();
+        send(Endpoint.HISTORY, request);
+    }
+
+    private long ownWallet(int userIndex, ThreadLocalRandom random) {
+        long[] walletIds = users.get(userIndex).walletIds();
+        return walletIds[random.nextInt(walletIds.length)];
+    }
+
+    private HttpRequest post(String path, String body, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(Endpoint endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            stats.get(endpoint).record(System.nanoTime() - start, response.statusCode());
+            return response;
+        } catch (IOException ex) {
+            stats.get(endpoint).record(System.nanoTime() - start, 599);
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void report(double seconds) {
+        System.out.println();
+        System.out.printf("%-10s %10s %10s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "4xx %", "error %");
+        long total = 0;
+        for (EndpointStats s : stats.values()) {
+            long count = s.getCount();
+            total += count;
+            if (count == 0) {
+                continue;
+            }
+            System.out.printf("%-10s %10d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    s.getEndpoint().name().toLowerCase(), count, count / seconds,
+                    s.percentileMillis(50), s.percentileMillis(99), s.percentileMillis(99.9), s.maxMillis(),
+                    100.0 * s.getRejected() / count, 100.0 * s.getErrors() / count);
+        }
+        System.out.printf("%-10s %10d %10.1f%n%n", "total", total, total / seconds);
+    }
+
+    private boolean verifyConservation(JdbcTemplate jdbcTemplate) {
+        BigDecimal seeded = config.getInitialBalance().multiply(BigDecimal.valueOf(allWalletIds.length));
+        BigDecimal deposited = BigDecimal.valueOf(depositedCents.sum(), 2);
+        BigDecimal actual = jdbcTemplate.queryForObject("SELECT COALESCE(SUM(balance), 0) FROM wallets", BigDecimal.class);
+        BigDecimal ledgerDeposits = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE transaction_type = 'DEPOSIT' AND status = 'COMPLETED'",
+                BigDecimal.class);
+        BigDecimal ledgerWithdrawals = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(amount), 0) FROM transactions WHERE transaction_type = 'WITHDRAWAL' AND status = 'COMPLETED'",
+                BigDecimal.class);
+
+        BigDecimal expectedFromClients = seeded.add(deposited);
+        BigDecimal expectedFromLedger = seeded.add(ledgerDeposits).subtract(ledgerWithdrawals);
+        boolean balanced = actual.compareTo(expectedFromClients) == 0 && actual.compareTo(expectedFromLedger) == 0;
+
+        System.out.printf("Balance conservation: wallets=%s, expected(client)=%s, expected(ledger)=%s -> %s%n",
+                actual, expectedFromClients, expectedFromLedger, balanced ? "OK" : "MISMATCH");
+        return balanced;
+    }
+
+    private void writeResult(Path path, boolean balanced) throws IOException {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("configuration", config.toString());
+        root.put("balanceConserved", balanced);
+        ArrayNode endpoints = root.putArray("endpoints");
+        for (EndpointStats s : stats.values()) {
+            if (s.getCount() == 0) {
+                continue;
+            }
+            endpoints.addObject()
+                    .put("endpoint", s.getEndpoint().name())
+                    .put("requests", s.getCount())
+                    .put("rejected", s.getRejected())
+                    .put("errors", s.getErrors())
+                    .put("p50Ms", s.percentileMillis(50))
+                    .put("p99Ms", s.percentileMillis(99))
+                    .put("p999Ms", s.percentileMillis(99.9))
+                    .put("maxMs", s.maxMillis());
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), root);
+        System.out.println("Results written to " + path);
+    }
+
+    private static String toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2).setScale(2, RoundingMode.UNNECESSARY).toPlainString();
+    }
+
+    private static void sleepUntil(long deadline) throws InterruptedException {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(remaining);
+        }
+    }
+
+    private record SeededUser(String email, long[] walletIds) {
+    }
+
+    /**
+     * Uses one virtual thread per client when the runtime supports it (JDK 21+);
+     * the project still targets Java 17, so the lookup is reflective and falls back
+     * to a platform thread per client.
+     */
+    private static final class ClientPool implements AutoCloseable {
+        private final ExecutorService executor;
+        private final String description;
+
+        ClientPool(int clients) {
+            ExecutorService virtual = null;
+            try {
+                virtual = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException ex) {
+                // Pre-21 runtime
+            }
+            this.executor = virtual != null ? virtual : Executors.newFixedThreadPool(clients);
+            this.description = virtual != null ? "virtual threads" : clients + " platform threads";
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+}
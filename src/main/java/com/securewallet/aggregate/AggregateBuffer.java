@@ -0,0 +1,258 @@
+package com.securewallet.aggregate;
+
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.enums.AggregatePeriod;
+import com.securewallet.enums.TransactionStatus;
+import com.securewallet.enums.TransactionType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import static com.securewallet.money.Money.SCALE;
+
+/**
+ * Coalesces committed transactions into per wallet, period and type deltas and
+ * adds them to {@code wallet_daily_aggregates} and the week, month and year rows
+ * of {@code wallet_period_aggregates} in batches. Rows are created on first use,
+ * so a flush costs one batched UPDATE plus a batched INSERT for new rows per
+ * table, however many transactions it covers. Reads lag by at most the flush
+ * interval.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AggregateBuffer {
+
+    private static final String ADD_TO_DAY = "UPDATE wallet_daily_aggregates " +
+            "SET inflow = inflow + ?, outflow = outflow + ?, transaction_count = transaction_count + ? " +
+            "WHERE wallet_id = ? AND activity_date = ? AND transaction_type = ?";
+    private static final String INSERT_DAY = "INSERT INTO wallet_daily_aggregates (wallet_id, activity_date, " +
+            "transaction_type, currency, inflow, outflow, transaction_count) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADD_TO_PERIOD = "UPDATE wallet_period_aggregates " +
+            "SET inflow = inflow + ?, outflow = outflow + ?, transaction_count = transaction_count + ?, " +
+            "updated_at = CURRENT_TIMESTAMP " +
+            "WHERE wallet_id = ? AND period = ? AND period_start = ? AND transaction_type = ?";
+    private static final String INSERT_PERIOD = "INSERT INTO wallet_period_aggregates (wallet_id, period, " +
+            "period_start, transaction_type, currency, inflow, outflow, transaction_count, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final AggregatePeriod[] PERIODS = AggregatePeriod.values();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    // Writers share the read lock so a flush can swap the map out from under none of them
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile ConcurrentHashMap<Key, Delta> pending = new ConcurrentHashMap<>();
+
+    private TransactionTemplate flushTransaction;
+    private Timer flushTimer;
+
+    private record Key(long walletId, AggregatePeriod period, LocalDate start, TransactionType type) {
+    }
+
+    private static final class Delta {
+        private final String currency;
+        private long inflow;
+        private long outflow;
+        private long count;
+
+        Delta(String currency) {
+            this.currency = currency;
+        }
+
+        Delta add(long inflow, long outflow, long count) {
+            this.inflow += inflow;
+            this.outflow += outflow;
+            this.count += count;
+            return this;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        flushTransaction = new TransactionTemplate(transactionManager);
+        flushTimer = Timer.builder("securewallet.aggregates.flush")
+                .description("Time to write buffered aggregate deltas")
+                .register(meterRegistry);
+        Gauge.builder("securewallet.aggregates.pending", this, buffer -> buffer.pending.size())
+                .description("Aggregate rows with unflushed deltas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Buffers a committed transaction: an inflow for the destination wallet and an
+     * outflow for the source wallet, each counted once in every period.
+     */
+    public void record(TransactionResponse transaction) {
+        if (transaction.getStatus() != TransactionStatus.COMPLETED || transaction.getCreatedAt() == null) {
+            return;
+        }
+        LocalDate day = transaction.getCreatedAt().toLocalDate();
+        long amount = transaction.getAmount().getMinorUnits();
+        String currency = transaction.getAmount().getCurrency();
+        swapLock.readLock().lock();
+        try {
+            for (AggregatePeriod period : PERIODS) {
+                LocalDate start = period.start(day);
+                if (transaction.getDestinationWalletId() != null) {
+                    add(new Key(transaction.getDestinationWalletId(), period, start, transaction.getType()),
+                            currency, amount, 0, 1);
+                }
+                if (transaction.getSourceWalletId() != null) {
+                    add(new Key(transaction.getSourceWalletId(), period, start, transaction.getType()),
+                            currency, 0, amount, 1);
+                }
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${securewallet.aggregates.flush-interval:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code action} with flushing paused, after writing everything buffered
+     * so far, so a rebuild from {@code transactions} cannot race a flush of deltas
+     * it already counts.
+     */
+    public <T> T flushAndRunExclusive(Supplier<T> action) {
+        flushLock.lock();
+        try {
+            flushPending();
+            return action.get();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void add(Key key, String currency, long inflow, long outflow, long count) {
+        pending.compute(key, (k, delta) -> (delta != null ? delta : new Delta(currency)).add(inflow, outflow, count));
+    }
+
+    private void flushPending() {
+        Map<Key, Delta> batch;
+        swapLock.writeLock().lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        try {
+            flushTransaction.executeWithoutResult(status -> write(batch));
+            log.debug("Flushed {} aggregate deltas", batch.size());
+        } catch (DataAccessException e) {
+            // Put the deltas back; the next flush retries them
+            log.warn("Failed to flush {} aggregate deltas, will retry: {}", batch.size(), e.getMessage());
+            swapLock.readLock().lock();
+            try {
+                batch.forEach((key, delta) -> add(key, delta.currency, delta.inflow, delta.outflow, delta.count));
+            } finally {
+                swapLock.readLock().unlock();
+            }
+            return;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+    private void write(Map<Key, Delta> batch) {
+        List<Map.Entry<Key, Delta>> days = new ArrayList<>();
+        List<Map.Entry<Key, Delta>> periods = new ArrayList<>();
+        for (Map.Entry<Key, Delta> entry : batch.entrySet()) {
+            (entry.getKey().period() == AggregatePeriod.DAY ? days : periods).add(entry);
+        }
+        upsert(days, ADD_TO_DAY, INSERT_DAY, false);
+        upsert(periods, ADD_TO_PERIOD, INSERT_PERIOD, true);
+    }
+
+    private void upsert(List<Map.Entry<Key, Delta>> entries, String addSql, String insertSql, boolean withPeriod) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(addSql, entries, entries.size(), (ps, entry) -> {
+            Delta delta = entry.getValue();
+            ps.setBigDecimal(1, BigDecimal.valueOf(delta.inflow, SCALE));
+            ps.setBigDecimal(2, BigDecimal.valueOf(delta.outflow, SCALE));
+            ps.setLong(3, delta.count);
+            bindKey(ps, 4, entry.getKey(), withPeriod);
+        })[0];
+
+        List<Map.Entry<Key, Delta>> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0 || updated[i] == Statement.EXECUTE_FAILED) {
+                missing.add(entries.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        // A row created concurrently by another instance fails the insert with a
+        // duplicate key; the whole batch is then retried as updates
+        jdbcTemplate.batchUpdate(insertSql, missing, missing.size(), (ps, entry) -> {
+            Delta delta = entry.getValue();
+            int index = bindKey(ps, 1, entry.getKey(), withPeriod);
+            ps.setString(index++, delta.currency);
+            ps.setBigDecimal(index++, BigDecimal.valueOf(delta.inflow, SCALE));
+            ps.setBigDecimal(index++, BigDecimal.valueOf(delta.outflow, SCALE));
+            ps.setLong(index, delta.count);
+        });
+    }
+
+    private static int bindKey(PreparedStatement ps, int index, Key key, boolean withPeriod) throws SQLException {
+        ps.setLong(index++, key.walletId());
+        if (withPeriod) {
+            ps.setString(index++, key.period().name());
+        }
+        ps.setDate(index++, Date.valueOf(key.start()));
+        ps.setString(index++, key.type().name());
+        return index;
+    }
+}
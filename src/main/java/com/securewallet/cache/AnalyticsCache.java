@@ -0,0 +1,85 @@
+package com.securewallet.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.securewallet.dto.response.SpendingAnalyticsResponse;
+import com.securewallet.enums.AggregatePeriod;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Spending analytics results grouped per user and stamped with the
+ * {@link Version} they were computed from. Any instance's flush moves the
+ * shared {@code updated_at} stamp of the rollup rows, so a reader that finds
+ * a different version starts a fresh map and every instance drops its stale
+ * breakdowns on the next read rather than after expiry. Loaders write into the
+ * map they obtained before querying; a result computed across a version change
+ * lands in the discarded map and is never served.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalyticsCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.analytics.cache.maximum-users:20000}")
+    private long maximumUsers;
+
+    @Value("${securewallet.analytics.cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    private Cache<Long, Results> results;
+
+    public record Query(AggregatePeriod granularity, LocalDate from, LocalDate to) {
+    }
+
+    /**
+     * What a user's results depend on besides the query: when their rollups last
+     * changed, and which wallets and currencies they hold.
+     */
+    public record Version(LocalDateTime lastUpdate, List<Long> walletIds, Set<String> currencies) {
+    }
+
+    private record Results(Version version, ConcurrentMap<Query, SpendingAnalyticsResponse> byQuery) {
+
+        Results(Version version) {
+            this(version, new ConcurrentHashMap<>());
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        results = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "spending-analytics");
+    }
+
+    /**
+     * The user's result map for this version, replacing one computed from any
+     * other; look up and store through the same instance.
+     */
+    public ConcurrentMap<Query, SpendingAnalyticsResponse> forUser(Long userId, Version version) {
+        Results current = results.get(userId, k -> new Results(version));
+        if (current.version().equals(version)) {
+            return current.byQuery();
+        }
+        Results fresh = new Results(version);
+        results.asMap().replace(userId, current, fresh);
+        return fresh.byQuery();
+    }
+}
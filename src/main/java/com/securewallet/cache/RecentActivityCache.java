@@ -0,0 +1,223 @@
+package com.securewallet.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.securewallet.dto.response.TransactionResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Per-wallet ring buffers holding the newest transactions touching each active
+ * wallet, newest first. Buffers are filled from the database on first use and
+ * then kept current by appending committed transactions; idle wallets expire and
+ * the total number of buffered transactions is bounded by {@code max-transactions}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentActivityCache {
+
+    private static final Comparator<TransactionResponse> NEWEST_FIRST = Comparator
+            .comparing(TransactionResponse::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(TransactionResponse::getId)
+            .reversed();
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.recent-activity.capacity:20}")
+    private int capacity;
+
+    @Value("${securewallet.recent-activity.max-transactions:200000}")
+    private long maxTransactions;
+
+    @Value("${securewallet.recent-activity.expire-after-access:15m}")
+    private Duration expireAfterAccess;
+
+    private Cache<Long, RingBuffer> buffers;
+    // Commits seen while a wallet's buffer is loading, replayed once it is published
+    private final ConcurrentMap<Long, PendingLoad> pendingLoads = new ConcurrentHashMap<>();
+
+    /**
+     * Buffered transactions for a wallet, newest first, and the wallet's total
+     * transaction count.
+     */
+    public record Snapshot(List<TransactionResponse> transactions, long totalElements) {
+    }
+
+    @PostConstruct
+    public void init() {
+        buffers = Caffeine.newBuilder()
+                .maximumWeight(maxTransactions)
+                .weigher((Long walletId, RingBuffer buffer) -> capacity)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, buffers, "recent-activity");
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the wallet's buffer, loading it on a miss. Commits recorded from
+     * before the load starts until the buffer is published are held aside and
+     * replayed into it, so a load that reads the database just before a commit
+     * still ends up with that transaction. The loader must read committed data
+     * from the primary: a commit recorded before the load started is not replayed.
+     */
+    public Snapshot get(Long walletId, Function<Long, Snapshot> loader) {
+        RingBuffer buffer = buffers.getIfPresent(walletId);
+        if (buffer != null) {
+            return buffer.snapshot();
+        }
+        PendingLoad pending = pendingLoads.compute(walletId,
+                (id, existing) -> (existing != null ? existing : new PendingLoad()).join());
+        try {
+            buffer = buffers.get(walletId, id -> new RingBuffer(capacity, loader.apply(id)));
+            pending.replayInto(buffer);
+        } finally {
+            pendingLoads.computeIfPresent(walletId, (id, existing) -> existing.leave() ? null : existing);
+        }
+        return buffer.snapshot();
+    }
+
+    /**
+     * Appends a committed transaction to the buffers of the wallets it touches.
+     * Wallets without a buffer are skipped unless one is loading; the others load
+     * from the database on first read.
+     */
+    public void record(TransactionResponse transaction) {
+        append(transaction.getSourceWalletId(), transaction);
+        append(transaction.getDestinationWalletId(), transaction);
+    }
+
+    private void append(Long walletId, TransactionResponse transaction) {
+        if (walletId == null) {
+            return;
+        }
+        // Held aside first: if the load publishes after this, the replay picks it up
+        PendingLoad pending = pendingLoads.get(walletId);
+        if (pending != null) {
+            pending.add(transaction);
+        }
+        // Skips a buffer that is still loading; the pending load covers it
+        buffers.asMap().computeIfPresent(walletId, (id, buffer) -> {
+            buffer.add(transaction);
+            return buffer;
+        });
+    }
+
+    private static final class PendingLoad {
+
+        private final List<TransactionResponse> committed = new ArrayList<>();
+        private int loaders;
+
+        // Only called inside pendingLoads.compute, which serializes them per wallet
+        PendingLoad join() {
+            loaders++;
+            return this;
+        }
+
+        boolean leave() {
+            return --loaders == 0;
+        }
+
+        synchronized void add(TransactionResponse transaction) {
+            committed.add(transaction);
+        }
+
+        synchronized void replayInto(RingBuffer buffer) {
+            for (TransactionResponse transaction : committed) {
+                buffer.add(transaction);
+            }
+        }
+    }
+
+    private static final class RingBuffer {
+
+        private final TransactionResponse[] slots;
+        private int head;
+        private int size;
+        private long totalElements;
+
+        RingBuffer(int capacity, Snapshot initial) {
+            slots = new TransactionResponse[capacity];
+            List<TransactionResponse> loaded = initial.transactions();
+            for (int i = Math.min(loaded.size(), capacity) - 1; i >= 0; i--) {
+                push(loaded.get(i));
+            }
+            totalElements = Math.max(initial.totalElements(), size);
+        }
+
+        synchronized void add(TransactionResponse transaction) {
+            for (int i = 0; i < size; i++) {
+                if (slot(i).getId().equals(transaction.getId())) {
+                    return;
+                }
+            }
+            totalElements++;
+            // Listeners for concurrent commits can run out of order; an entry older
+            // than everything retained in a full buffer belongs to a later page
+            if (size == slots.length && NEWEST_FIRST.compare(transaction, oldest()) > 0) {
+                return;
+            }
+            push(transaction);
+        }
+
+        synchronized Snapshot snapshot() {
+            TransactionResponse[] copy = new TransactionResponse[size];
+            for (int i = 0; i < size; i++) {
+                copy[i] = slot(i);
+            }
+            Arrays.sort(copy, NEWEST_FIRST);
+            return new Snapshot(new ArrayList<>(Arrays.asList(copy)), totalElements);
+        }
+
+        private void push(TransactionResponse transaction) {
+            if (size == slots.length) {
+                evictOldest();
+            }
+            slots[(head + size) % slots.length] = transaction;
+            size++;
+        }
+
+        private void evictOldest() {
+            int oldest = indexOfOldest();
+            slots[(head + oldest) % slots.length] = slots[head];
+            slots[head] = null;
+            head = (head + 1) % slots.length;
+            size--;
+        }
+
+        private TransactionResponse oldest() {
+            return slot(indexOfOldest());
+        }
+
+        private int indexOfOldest() {
+            int oldest = 0;
+            for (int i = 1; i < size; i++) {
+                if (NEWEST_FIRST.compare(slot(i), slot(oldest)) > 0) {
+                    oldest = i;
+                }
+            }
+            return oldest;
+        }
+
+        private TransactionResponse slot(int i) {
+            return slots[(head + i) % slots.length];
+        }
+    }
+}
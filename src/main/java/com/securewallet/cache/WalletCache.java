@@ -0,0 +1,118 @@
+package com.securewallet.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.securewallet.dto.response.WalletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read cache of wallet responses, keyed by wallet id, plus each user's wallet id
+ * list. Entries carry the wallet's {@code @Version} so a snapshot read before a
+ * concurrent commit can never replace the newer one written through after it.
+ */
+@Component
+@RequiredArgsConstructor
+public class WalletCache {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.wallet-cache.maximum-size:50000}")
+    private long maximumSize;
+
+    @Value("${securewallet.wallet-cache.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    private Cache<Long, CachedWallet> wallets;
+    private Cache<Long, List<Long>> walletIdsByUser;
+    private final AtomicLong listGeneration = new AtomicLong();
+
+    public record CachedWallet(Long userId, Long version, WalletResponse response) {
+    }
+
+    @PostConstruct
+    public void init() {
+        wallets = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        walletIdsByUser = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, wallets, "wallets");
+        CaffeineCacheMetrics.monitor(meterRegistry, walletIdsByUser, "user-wallets");
+    }
+
+    public CachedWallet getWallet(Long walletId) {
+        return wallets.getIfPresent(walletId);
+    }
+
+    /**
+     * Returns the user's wallets in listing order, or {@code null} when the list or
+     * any of its wallets is not cached.
+     */
+    public List<CachedWallet> getWalletsByUser(Long userId) {
+        List<Long> walletIds = walletIdsByUser.getIfPresent(userId);
+        if (walletIds == null) {
+            return null;
+        }
+        List<CachedWallet> entries = new ArrayList<>(walletIds.size());
+        for (Long walletId : walletIds) {
+            CachedWallet cached = wallets.getIfPresent(walletId);
+            if (cached == null) {
+                walletIdsByUser.invalidate(userId);
+                return null;
+            }
+            entries.add(cached);
+        }
+        return entries;
+    }
+
+    public void putWallet(CachedWallet entry) {
+        wallets.asMap().merge(entry.response().getId(), entry,
+                (existing, candidate) -> isNewer(candidate, existing) ? candidate : existing);
+    }
+
+    /**
+     * Token to capture before loading a wallet list from the database; a list
+     * loaded across a wallet creation is discarded rather than cached.
+     */
+    public long listGeneration() {
+        return listGeneration.get();
+    }
+
+    public void putWalletsByUser(Long userId, long generation, List<CachedWallet> entries) {
+        List<Long> walletIds = new ArrayList<>(entries.size());
+        for (CachedWallet entry : entries) {
+            putWallet(entry);
+            walletIds.add(entry.response().getId());
+        }
+        if (listGeneration.get() == generation) {
+            walletIdsByUser.put(userId, List.copyOf(walletIds));
+        }
+    }
+
+    public void invalidateUser(Long userId) {
+        listGeneration.incrementAndGet();
+        walletIdsByUser.invalidate(userId);
+    }
+
+    private static boolean isNewer(CachedWallet candidate, CachedWallet existing) {
+        if (candidate.version() == null || existing.version() == null) {
+            return true;
+        }
+        return candidate.version() >= existing.version();
+    }
+}
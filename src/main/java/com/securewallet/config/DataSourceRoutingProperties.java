@@ -0,0 +1,45 @@
+package com.securewallet.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "securewallet.datasource.routing")
+public class DataSourceRoutingProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Replicas lagging further behind the primary than this stop receiving reads
+     * until they catch up.
+     */
+    private Duration maxReplicationLag = Duration.ofSeconds(2);
+
+    /**
+     * How long after a user's own write commits their reads stay on the primary.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Query returning the replica's lag in milliseconds. When empty, replicas are
+     * only checked for connectivity.
+     */
+    private String lagQuery;
+
+    @Data
+    public static class Replica {
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,44 @@
+package com.securewallet.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "securewallet.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * How long a bucket must sit full before the eviction sweep drops it.
+     */
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    /**
+     * Endpoint groups, matched in declaration order; the first group whose
+     * paths and methods match a request decides its limit.
+     */
+    private Map<String, Group> groups = new LinkedHashMap<>();
+
+    public enum KeyStrategy {
+        USER,
+        IP
+    }
+
+    @Data
+    public static class Group {
+        private List<String> paths = new ArrayList<>();
+        private List<String> methods = new ArrayList<>();
+        private KeyStrategy keyBy = KeyStrategy.USER;
+        private long capacity = 60;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+    }
+}
@@ -1,11 +1,19 @@
 package com.securewallet.config;
 
+import com.securewallet.exception.ErrorResponses;
 import com.securewallet.security.CustomUserDetailsService;
 import com.securewallet.security.JwtAuthenticationEntryPoint;
 import com.securewallet.security.JwtAuthenticationFilter;
+import com.securewallet.security.MetricsScrapeAuthorization;
+import com.securewallet.security.RateLimitFilter;
+import com.securewallet.security.RateLimiter;
+import com.securewallet.web.StaticAssetResolver;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -33,8 +41,19 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final ErrorResponses errorResponses;
     private final JwtAuthenticationEntryPoint authEntryPoint;
     private final CustomUserDetailsService userDetailsService;
+    private final MetricsScrapeAuthorization metricsScrapeAuthorization;
+
+    private static boolean isFrontendRequest(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return HttpMethod.GET.matches(request.getMethod())
+                && path.startsWith("/")
+                && StaticAssetResolver.isClientRoute(path.substring(1));
+    }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -48,14 +67,20 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // Streams completing re-dispatch; the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         .requestMatchers("/api/v1/public/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
+                        // Per-endpoint traffic and error rates: admins or the scraper's token
+                        .requestMatchers(MetricsScrapeAuthorization.SCRAPE_PATH).access(metricsScrapeAuthorization)
                         .requestMatchers("/h2-console/**").permitAll()
                         // Serve static files
                         .requestMatchers("/", "/index.html", "/static/**", "/assets/**", "/*.js", "/*.css", "/*.ico", "/*.png").permitAll()
+                        // Other frontend files and client-side routes resolve to the SPA
+                        .requestMatchers(SecurityConfig::isFrontendRequest).permitAll()
                         // Admin only
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         // Authenticated users
@@ -63,12 +88,21 @@ public class SecurityConfig {
                 )
                 .authenticationProvider(authenticationProvider())
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                // IP-keyed groups are checked before the token is parsed and the principal loaded
+                .addFilterBefore(rateLimitFilter(RateLimitProperties.KeyStrategy.IP), JwtAuthenticationFilter.class)
+                // User-keyed groups need the authenticated principal
+                .addFilterAfter(rateLimitFilter(RateLimitProperties.KeyStrategy.USER), JwtAuthenticationFilter.class)
                 // Enable H2 console
                 .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()));
 
         return http.build();
     }
 
+    // Not beans, so the servlet container does not register them a second time
+    private RateLimitFilter rateLimitFilter(RateLimitProperties.KeyStrategy keyBy) {
+        return new RateLimitFilter(rateLimiter, rateLimitProperties, errorResponses, keyBy);
+    }
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
@@ -0,0 +1,68 @@
+package com.securewallet.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Corrects {@code transactions.currency} for rows written before the column
+ * existed: it was added with a USD default, which mislabels the transactions of
+ * wallets in other currencies. A transaction always carries its wallets'
+ * currency, so only those wallets are visited, through the wallet indexes, and
+ * only mismatching rows are written.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionCurrencyBackfill implements CommandLineRunner {
+
+    private static final String DEFAULT_CURRENCY = "USD";
+    private static final String FOREIGN_WALLETS = "SELECT id, currency FROM wallets " +
+            "WHERE currency <> ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String FIX_AS_SOURCE = "UPDATE transactions SET currency = ? " +
+            "WHERE source_wallet_id = ? AND currency <> ?";
+    private static final String FIX_AS_DESTINATION = "UPDATE transactions SET currency = ? " +
+            "WHERE destination_wallet_id = ? AND currency <> ?";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        long start = System.nanoTime();
+        long fixed = 0;
+        long lastWalletId = 0;
+        List<Map<String, Object>> wallets;
+        do {
+            wallets = jdbcTemplate.queryForList(FOREIGN_WALLETS, DEFAULT_CURRENCY, lastWalletId, BATCH_SIZE);
+            List<Object[]> fixes = new ArrayList<>(wallets.size());
+            for (Map<String, Object> wallet : wallets) {
+                long walletId = ((Number) wallet.get("id")).longValue();
+                Object currency = wallet.get("currency");
+                fixes.add(new Object[]{currency, walletId, currency});
+                lastWalletId = walletId;
+            }
+            // One short statement per wallet, so postings are never blocked for long
+            fixed += sum(jdbcTemplate.batchUpdate(FIX_AS_SOURCE, fixes));
+            fixed += sum(jdbcTemplate.batchUpdate(FIX_AS_DESTINATION, fixes));
+        } while (wallets.size() == BATCH_SIZE);
+        if (fixed > 0) {
+            log.info("Corrected the currency of {} transactions in {} ms",
+                    fixed, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+}
@@ -1,44 +1,34 @@
 package com.securewallet.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securewallet.timing.ServerTimingJacksonConverter;
+import com.securewallet.web.StaticAssetManifest;
+import com.securewallet.web.StaticAssetResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-import org.springframework.web.servlet.resource.PathResourceResolver;
-
-import java.io.IOException;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final StaticAssetManifest staticAssetManifest;
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new ServerTimingJacksonConverter(objectMapper);
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Serve static files from /static directory
+        // Serve the bundled SPA from the in-memory manifest built at startup
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requestedResource = location.createRelative(resourcePath);
-                        
-                        // If the resource exists, return it
-                        if (requestedResource.exists() && requestedResource.isReadable()) {
-                            return requestedResource;
-                        }
-                        
-                        // For SPA routing - return index.html for non-API routes
-                        if (!resourcePath.startsWith("api/") && 
-                            !resourcePath.startsWith("swagger") &&
-                            !resourcePath.startsWith("v3/api-docs") &&
-                            !resourcePath.startsWith("h2-console") &&
-                            !resourcePath.startsWith("actuator")) {
-                            return new ClassPathResource("/static/index.html");
-                        }
-                        
-                        return null;
-                    }
-                });
+                .setEtagGenerator(StaticAssetManifest::etagOf)
+                .resourceChain(false)
+                .addResolver(new StaticAssetResolver(staticAssetManifest));
     }
 }
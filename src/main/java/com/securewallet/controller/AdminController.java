@@ -0,0 +1,148 @@
+package com.securewallet.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securewallet.dto.request.OnboardingRequest;
+import com.securewallet.dto.response.AggregateBackfillResponse;
+import com.securewallet.dto.response.ApiResponse;
+import com.securewallet.dto.response.OnboardingResult;
+import com.securewallet.dto.response.ReconciliationDiscrepancyResponse;
+import com.securewallet.dto.response.ReconciliationRunResponse;
+import com.securewallet.enums.ReconciliationMode;
+import com.securewallet.security.UserPrincipal;
+import com.securewallet.service.DailyActivityService;
+import com.securewallet.service.OnboardingService;
+import com.securewallet.service.ReconciliationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Admin", description = "Administrative endpoints")
+public class AdminController {
+
+    private final OnboardingService onboardingService;
+    private final DailyActivityService dailyActivityService;
+    private final ReconciliationService reconciliationService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reads one {@link OnboardingRequest} per line and writes one
+     * {@link OnboardingResult} per record, flushing after every batch so progress
+     * is visible while a large migration is still running.
+     */
+    @PostMapping(value = "/onboarding", consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Bulk-onboard users with their initial wallets from an NDJSON stream")
+    public void onboard(HttpServletRequest request, HttpServletResponse response,
+                        @AuthenticationPrincipal UserPrincipal currentUser) throws IOException {
+        log.info("Bulk onboarding started by {}", currentUser.getEmail());
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+
+        int batchSize = onboardingService.getBatchSize();
+        List<OnboardingRequest> batch = new ArrayList<>(batchSize);
+        long nextRecord = 1;
+        long created = 0;
+        BufferedReader reader = request.getReader();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            batch.add(parse(line));
+            if (batch.size() == batchSize) {
+                created += writeResults(onboardingService.onboardBatch(batch, nextRecord), out);
+                nextRecord += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            created += writeResults(onboardingService.onboardBatch(batch, nextRecord), out);
+            nextRecord += batch.size();
+        }
+        log.info("Bulk onboarding finished: {} of {} records created", created, nextRecord - 1);
+    }
+
+    @PostMapping("/daily-aggregates/backfill")
+    @Operation(summary = "Rebuild per-wallet daily aggregates for closed days from the transaction history")
+    public ResponseEntity<ApiResponse<AggregateBackfillResponse>> backfillDailyAggregates(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        log.info("Daily aggregate backfill from {} requested by {}", startDate, currentUser.getEmail());
+        LocalDate end = endDate != null ? endDate : LocalDate.now().minusDays(1);
+        return ResponseEntity.ok(ApiResponse.success(dailyActivityService.backfill(startDate, end)));
+    }
+
+    @PostMapping("/reconciliation/runs")
+    @Operation(summary = "Start a ledger reconciliation in the background, or resume an interrupted one",
+            description = "FULL checks every wallet; INCREMENTAL only wallets touched since the last completed run")
+    public ResponseEntity<ApiResponse<ReconciliationRunResponse>> startReconciliation(
+            @RequestParam(defaultValue = "INCREMENTAL") ReconciliationMode mode,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        log.info("{} reconciliation requested by {}", mode, currentUser.getEmail());
+        return ResponseEntity.ok(ApiResponse.success(reconciliationService.start(mode)));
+    }
+
+    @GetMapping("/reconciliation/runs/{runId}")
+    @Operation(summary = "Get the progress or outcome of a reconciliation run")
+    public ResponseEntity<ApiResponse<ReconciliationRunResponse>> getReconciliationRun(@PathVariable Long runId) {
+        return ResponseEntity.ok(ApiResponse.success(reconciliationService.getRun(runId)));
+    }
+
+    @GetMapping("/reconciliation/runs/{runId}/discrepancies")
+    @Operation(summary = "List wallets whose balance differs from their transaction history")
+    public ResponseEntity<ApiResponse<Page<ReconciliationDiscrepancyResponse>>> getReconciliationDiscrepancies(
+            @PathVariable Long runId,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(ApiResponse.success(reconciliationService.getDiscrepancies(runId, pageable)));
+    }
+
+    private OnboardingRequest parse(String line) {
+        try {
+            return objectMapper.readValue(line, OnboardingRequest.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private long writeResults(List<OnboardingResult> results, OutputStream out) throws IOException {
+        long created = 0;
+        for (OnboardingResult result : results) {
+            out.write(objectMapper.writeValueAsBytes(result));
+            out.write('\n');
+            if (result.getUserId() != null) {
+                created++;
+            }
+        }
+        out.flush();
+        return created;
+    }
+}
@@ -0,0 +1,44 @@
+package com.securewallet.controller;
+
+import com.securewallet.dto.response.ApiResponse;
+import com.securewallet.dto.response.SpendingAnalyticsResponse;
+import com.securewallet.enums.AggregatePeriod;
+import com.securewallet.security.UserPrincipal;
+import com.securewallet.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "Spending analytics across the user's wallets")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @GetMapping("/spending")
+    @Operation(summary = "Get inflow, outflow and counts per week, month or year, broken down by transaction type",
+            description = "Buckets cover startDate to endDate widened to whole periods; defaults to the last 12 months. "
+                    + "Figures trail postings by at most the aggregate flush interval on every instance")
+    public ResponseEntity<ApiResponse<SpendingAnalyticsResponse>> getSpending(
+            @RequestParam(defaultValue = "MONTH") AggregatePeriod granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusMonths(11);
+        SpendingAnalyticsResponse spending =
+                analyticsService.getSpending(currentUser.getId(), granularity, start, end);
+        return ResponseEntity.ok(ApiResponse.success(spending));
+    }
+}
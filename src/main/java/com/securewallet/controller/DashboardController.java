@@ -0,0 +1,33 @@
+package com.securewallet.controller;
+
+import com.securewallet.dto.response.ApiResponse;
+import com.securewallet.dto.response.DashboardResponse;
+import com.securewallet.security.UserPrincipal;
+import com.securewallet.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Aggregated dashboard endpoint")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @GetMapping
+    @Operation(summary = "Get profile, wallets, totals per currency and recent transactions in one call")
+    public ResponseEntity<ApiResponse<DashboardResponse>> getDashboard(
+            @RequestParam(defaultValue = "10") int recent,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        DashboardResponse dashboard = dashboardService.getDashboard(currentUser.getId(), recent);
+        return ResponseEntity.ok(ApiResponse.success(dashboard));
+    }
+}
@@ -0,0 +1,72 @@
+package com.securewallet.controller;
+
+import com.securewallet.dto.response.TransactionResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+
+import java.util.Map;
+
+/**
+ * Weak validators built from entity versions. They are weak because the
+ * {@code ApiResponse} envelope carries a timestamp, so two 200 bodies for the same
+ * version are equivalent but not byte-identical.
+ */
+final class ETags {
+
+    /**
+     * Lets browsers keep a private copy but revalidate on every use, replacing the
+     * no-store default that would stop them from sending If-None-Match.
+     */
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    static String ofVersion(String resource, Long id, Long version) {
+        return "W/\"" + resource + "-" + id + "-v" + version + "\"";
+    }
+
+    /**
+     * Validator for a view over several wallets, e.g. a history page: it changes
+     * whenever any of the wallets changes or the query itself differs.
+     */
+    static String ofWalletVersions(String resource, Map<Long, Long> walletVersions, Object... query) {
+        long hash = FNV_OFFSET_BASIS;
+        for (Map.Entry<Long, Long> entry : walletVersions.entrySet()) {
+            hash = mix(hash, entry.getKey());
+            hash = mix(hash, entry.getValue());
+        }
+        for (Object part : query) {
+            hash = mix(hash, part == null ? 0 : part.toString().hashCode());
+        }
+        return "W/\"" + resource + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Validator for a transaction page built from the page itself. History and
+     * search are served from the recent-activity buffer and the search index,
+     * which catch up after commit, so wallet versions can move ahead of them.
+     */
+    static String ofTransactionPage(String resource, Page<TransactionResponse> page, Object... query) {
+        long hash = mix(FNV_OFFSET_BASIS, page.getTotalElements());
+        for (TransactionResponse transaction : page.getContent()) {
+            hash = mix(hash, transaction.getId());
+            hash = mix(hash, transaction.getStatus() == null ? -1 : transaction.getStatus().ordinal());
+        }
+        for (Object part : query) {
+            hash = mix(hash, part == null ? 0 : part.toString().hashCode());
+        }
+        return "W/\"" + resource + "-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long mix(long hash, long value) {
+        for (int shift = 0; shift < 64; shift += 8) {
+            hash ^= (value >>> shift) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,29 @@
+package com.securewallet.controller;
+
+import com.securewallet.notification.NotificationHub;
+import com.securewallet.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notifications", description = "Live balance and transaction updates")
+public class NotificationController {
+
+    private final NotificationHub notificationHub;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream balance changes and new transactions as server-sent events",
+            description = "Emits 'transaction' and 'balance' events; 'resync' means updates were dropped and the client should reload")
+    public SseEmitter stream(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return notificationHub.subscribe(currentUser.getId());
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -73,19 +74,59 @@ public class TransactionController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
         Page<TransactionResponse> transactions = transactionService.getTransactions(
                 currentUser.getId(), walletId, type, startDate, endDate, pageable);
-        return ResponseEntity.ok(ApiResponse.success(transactions));
+        String etag = ETags.ofTransactionPage("transactions", transactions,
+                walletId, type, startDate, endDate, pageable);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success(transactions));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search transaction descriptions and reference numbers",
+            description = "Every word of q must start a word of the description or the reference number; "
+                    + "combines with the type and date filters; newest first")
+    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> searchTransactions(
+            @RequestParam String q,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @PageableDefault(size = 20) Pageable pageable,
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        Page<TransactionResponse> transactions = transactionService.searchTransactions(
+                currentUser.getId(), q, type, startDate, endDate, pageable);
+        String etag = ETags.ofTransactionPage("transaction-search", transactions,
+                q, type, startDate, endDate, pageable);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success(transactions));
     }
 
     @GetMapping("/{transactionId}")
     @Operation(summary = "Get transaction by ID")
     public ResponseEntity<ApiResponse<TransactionResponse>> getTransaction(
             @PathVariable Long transactionId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        String etag = ETags.ofVersion("transaction", transactionId,
+                transactionService.getTransactionVersion(transactionId, currentUser.getId()));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         TransactionResponse transaction = transactionService.getTransactionById(
                 transactionId, currentUser.getId());
-        return ResponseEntity.ok(ApiResponse.success(transaction));
+        return ResponseEntity.ok()
+                .cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success(transaction));
     }
 }
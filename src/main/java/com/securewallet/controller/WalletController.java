@@ -1,21 +1,27 @@
 package com.securewallet.controller;
 
+import com.securewallet.dto.request.BatchBalanceRequest;
 import com.securewallet.dto.request.CreateWalletRequest;
 import com.securewallet.dto.response.ApiResponse;
 import com.securewallet.dto.response.BalanceResponse;
+import com.securewallet.dto.response.DailyActivityResponse;
 import com.securewallet.dto.response.WalletResponse;
 import com.securewallet.enums.WalletStatus;
 import com.securewallet.security.UserPrincipal;
+import com.securewallet.service.DailyActivityService;
 import com.securewallet.service.WalletService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -25,22 +31,37 @@ import java.util.List;
 public class WalletController {
 
     private final WalletService walletService;
+    private final DailyActivityService dailyActivityService;
 
     @GetMapping
     @Operation(summary = "Get all wallets for current user")
     public ResponseEntity<ApiResponse<List<WalletResponse>>> getMyWallets(
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        String etag = ETags.ofWalletVersions("wallets", walletService.getWalletVersions(currentUser.getId()));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<WalletResponse> wallets = walletService.getWalletsByUserId(currentUser.getId());
-        return ResponseEntity.ok(ApiResponse.success(wallets));
+        return ResponseEntity.ok()
+                .cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success(wallets));
     }
 
     @GetMapping("/{walletId}")
     @Operation(summary = "Get wallet by ID")
     public ResponseEntity<ApiResponse<WalletResponse>> getWallet(
             @PathVariable Long walletId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        String etag = ETags.ofVersion("wallet", walletId, walletService.getWalletVersion(walletId, currentUser.getId()));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         WalletResponse wallet = walletService.getWalletById(walletId, currentUser.getId());
-        return ResponseEntity.ok(ApiResponse.success(wallet));
+        return ResponseEntity.ok()
+                .cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success(wallet));
     }
 
     @PostMapping
@@ -58,9 +79,42 @@ public class WalletController {
     @Operation(summary = "Get wallet balance")
     public ResponseEntity<ApiResponse<BalanceResponse>> getBalance(
             @PathVariable Long walletId,
-            @AuthenticationPrincipal UserPrincipal currentUser) {
+            @AuthenticationPrincipal UserPrincipal currentUser,
+            WebRequest webRequest) {
+        String etag = ETags.ofVersion("balance", walletId, walletService.getWalletVersion(walletId, currentUser.getId()));
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         BalanceResponse balance = walletService.getBalance(walletId, currentUser.getId());
-        return ResponseEntity.ok(ApiResponse.success(balance));
+        return ResponseEntity.ok()
+                .cacheControl(ETags.REVALIDATE)
+                .body(ApiResponse.success(balance));
+    }
+
+    @PostMapping("/balances")
+    @Operation(summary = "Get balances of several wallets",
+            description = "Returns one balance per distinct wallet ID, in request order; at most "
+                    + BatchBalanceRequest.MAX_WALLETS + " wallets")
+    public ResponseEntity<ApiResponse<List<BalanceResponse>>> getBalances(
+            @Valid @RequestBody BatchBalanceRequest request,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        List<BalanceResponse> balances = walletService.getBalances(request.getWalletIds(), currentUser.getId());
+        return ResponseEntity.ok(ApiResponse.success(balances));
+    }
+
+    @GetMapping("/{walletId}/daily-activity")
+    @Operation(summary = "Get daily inflow, outflow and transaction counts",
+            description = "One entry per day from startDate to endDate inclusive; defaults to the last 30 days")
+    public ResponseEntity<ApiResponse<List<DailyActivityResponse>>> getDailyActivity(
+            @PathVariable Long walletId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        List<DailyActivityResponse> activity =
+                dailyActivityService.getDailyActivity(walletId, currentUser.getId(), start, end);
+        return ResponseEntity.ok(ApiResponse.success(activity));
     }
 
     @PutMapping("/{walletId}/status")
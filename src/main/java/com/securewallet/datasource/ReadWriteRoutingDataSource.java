@@ -0,0 +1,87 @@
+package com.securewallet.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a replica and everything else to the primary.
+ * Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * so the connection is fetched after the transaction's read-only flag is bound.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<ReplicaDataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private final Counter writeRoutes;
+    private final Counter readYourWritesRoutes;
+    private final Counter fallbackRoutes;
+    private final Counter replicaRoutes;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            List<ReplicaDataSource> replicas,
+            ReadYourWritesTracker readYourWritesTracker,
+            MeterRegistry meterRegistry) {
+        this.replicas = List.copyOf(replicas);
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (ReplicaDataSource replica : this.replicas) {
+            targets.put(replica.getName(), replica.getDataSource());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+
+        this.writeRoutes = routeCounter(meterRegistry, PRIMARY, "write");
+        this.readYourWritesRoutes = routeCounter(meterRegistry, PRIMARY, "read-your-writes");
+        this.fallbackRoutes = routeCounter(meterRegistry, PRIMARY, "replica-unavailable");
+        this.replicaRoutes = routeCounter(meterRegistry, "replica", "read-only");
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("securewallet.datasource.routes")
+                .description("Connections handed out by the read/write routing datasource")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readYourWritesTracker.onWriteTransaction();
+            writeRoutes.increment();
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.currentUserWroteRecently()) {
+            readYourWritesRoutes.increment();
+            return PRIMARY;
+        }
+
+        int count = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            ReplicaDataSource replica = replicas.get((start + i) % count);
+            if (replica.isAvailable()) {
+                replicaRoutes.increment();
+                return replica.getName();
+            }
+        }
+        fallbackRoutes.increment();
+        return PRIMARY;
+    }
+}
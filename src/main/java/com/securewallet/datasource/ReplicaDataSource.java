@@ -0,0 +1,62 @@
+package com.securewallet.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+@Slf4j
+@Getter
+@RequiredArgsConstructor
+public class ReplicaDataSource {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final String name;
+    private final HikariDataSource dataSource;
+
+    private volatile boolean available = true;
+    private volatile long lagMillis;
+
+    void check(Duration maxReplicationLag, String lagQuery) {
+        boolean wasAvailable = available;
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                markUnavailable(wasAvailable, "connection is not valid");
+                return;
+            }
+            lagMillis = StringUtils.hasText(lagQuery) ? queryLag(connection, lagQuery) : 0L;
+        } catch (SQLException ex) {
+            markUnavailable(wasAvailable, ex.getMessage());
+            return;
+        }
+
+        available = lagMillis <= maxReplicationLag.toMillis();
+        if (wasAvailable && !available) {
+            log.warn("Replica {} is {} ms behind the primary, routing its reads to the primary", name, lagMillis);
+        } else if (!wasAvailable && available) {
+            log.info("Replica {} is back in rotation ({} ms behind)", name, lagMillis);
+        }
+    }
+
+    private long queryLag(Connection connection, String lagQuery) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            return resultSet.next() ? Math.max(0L, resultSet.getLong(1)) : 0L;
+        }
+    }
+
+    private void markUnavailable(boolean wasAvailable, String reason) {
+        available = false;
+        if (wasAvailable) {
+            log.warn("Replica {} failed its health check, routing its reads to the primary: {}", name, reason);
+        }
+    }
+}
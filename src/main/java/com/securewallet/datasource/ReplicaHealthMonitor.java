@@ -0,0 +1,31 @@
+package com.securewallet.datasource;
+
+import com.securewallet.config.DataSourceRoutingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ReplicaHealthMonitor {
+
+    private final List<ReplicaDataSource> replicas;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DataSourceRoutingProperties properties;
+
+    @Scheduled(fixedDelayString = "${securewallet.datasource.routing.health-check-interval:5000}")
+    public void checkReplicas() {
+        for (ReplicaDataSource replica : replicas) {
+            replica.check(properties.getMaxReplicationLag(), properties.getLagQuery());
+        }
+        readYourWritesTracker.evictExpired();
+    }
+
+    @PreDestroy
+    public void closeReplicas() {
+        for (ReplicaDataSource replica : replicas) {
+            replica.getDataSource().close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.securewallet.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchBalanceRequest {
+    public static final int MAX_WALLETS = 100;
+
+    @NotEmpty(message = "At least one wallet ID is required")
+    @Size(max = MAX_WALLETS, message = "At most " + MAX_WALLETS + " wallets can be requested at once")
+    private List<@NotNull(message = "Wallet ID is required") Long> walletIds;
+}
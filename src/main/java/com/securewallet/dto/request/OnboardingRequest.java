@@ -0,0 +1,46 @@
+package com.securewallet.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One account in a bulk onboarding stream: the same fields as a registration
+ * plus the wallets to open for the new user.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OnboardingRequest {
+    public static final int MAX_WALLETS = 10;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @NotBlank(message = "Password is required")
+    @Size(min = 6, message = "Password must be at least 6 characters")
+    private String password;
+
+    @NotBlank(message = "First name is required")
+    private String firstName;
+
+    @NotBlank(message = "Last name is required")
+    private String lastName;
+
+    private String phoneNumber;
+
+    @Builder.Default
+    @Size(max = MAX_WALLETS, message = "At most " + MAX_WALLETS + " wallets can be opened per user")
+    private List<@Valid @NotNull(message = "Wallet is required") CreateWalletRequest> wallets = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.securewallet.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregateBackfillResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private long rowsWritten;
+    private long durationMillis;
+}
@@ -1,12 +1,11 @@
 package com.securewallet.dto.response;
 
+import com.securewallet.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Data
 @Builder
 @NoArgsConstructor
@@ -14,7 +13,7 @@ import java.math.BigDecimal;
 public class BalanceResponse {
     private Long walletId;
     private String walletName;
-    private BigDecimal balance;
-    private BigDecimal availableBalance;
+    private Money balance;
+    private Money availableBalance;
     private String currency;
 }
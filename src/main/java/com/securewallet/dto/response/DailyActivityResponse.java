@@ -0,0 +1,23 @@
+package com.securewallet.dto.response;
+
+import com.securewallet.enums.TransactionType;
+import com.securewallet.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyActivityResponse {
+    private LocalDate date;
+    private Money inflow;
+    private Money outflow;
+    private long transactionCount;
+    private Map<TransactionType, Long> transactionsByType;
+}
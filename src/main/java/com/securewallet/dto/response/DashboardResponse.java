@@ -0,0 +1,21 @@
+package com.securewallet.dto.response;
+
+import com.securewallet.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardResponse {
+    private UserResponse user;
+    private List<WalletResponse> wallets;
+    private Map<String, Money> totalBalances;
+    private List<TransactionResponse> recentTransactions;
+}
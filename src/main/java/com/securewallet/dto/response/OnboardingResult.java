@@ -0,0 +1,28 @@
+package com.securewallet.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.securewallet.enums.OnboardingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome for one record of a bulk onboarding stream; {@code record} is the
+ * 1-based position of the record among the non-blank input lines.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OnboardingResult {
+    private long record;
+    private String email;
+    private OnboardingStatus status;
+    private Long userId;
+    private List<Long> walletIds;
+    private String message;
+}
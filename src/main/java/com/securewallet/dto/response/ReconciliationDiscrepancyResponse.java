@@ -0,0 +1,23 @@
+package com.securewallet.dto.response;
+
+import com.securewallet.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationDiscrepancyResponse {
+    private Long walletId;
+    private Money recordedBalance;
+    private Money expectedBalance;
+    /** Recorded minus expected. */
+    private Money difference;
+    private long transactionCount;
+    private LocalDateTime detectedAt;
+}
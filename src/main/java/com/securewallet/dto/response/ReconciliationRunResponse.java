@@ -0,0 +1,29 @@
+package com.securewallet.dto.response;
+
+import com.securewallet.enums.ReconciliationMode;
+import com.securewallet.enums.ReconciliationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReconciliationRunResponse {
+    private Long id;
+    private ReconciliationMode mode;
+    private ReconciliationStatus status;
+    private long fromTransactionId;
+    private long toTransactionId;
+    private int partitions;
+    private long partitionsCompleted;
+    private long walletsChecked;
+    private long discrepancyCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String failureMessage;
+}
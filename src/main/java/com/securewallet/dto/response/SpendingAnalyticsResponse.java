@@ -0,0 +1,21 @@
+package com.securewallet.dto.response;
+
+import com.securewallet.enums.AggregatePeriod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendingAnalyticsResponse {
+    private AggregatePeriod granularity;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<SpendingBucket> buckets;
+}
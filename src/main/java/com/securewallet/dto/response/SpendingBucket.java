@@ -0,0 +1,34 @@
+package com.securewallet.dto.response;
+
+import com.securewallet.enums.TransactionType;
+import com.securewallet.money.Money;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpendingBucket {
+    private LocalDate periodStart;
+    private String currency;
+    private Money inflow;
+    private Money outflow;
+    private long transactionCount;
+    private Map<TransactionType, TypeTotals> byType;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TypeTotals {
+        private Money inflow;
+        private Money outflow;
+        private long transactionCount;
+    }
+}
@@ -2,12 +2,12 @@ package com.securewallet.dto.response;
 
 import com.securewallet.enums.TransactionStatus;
 import com.securewallet.enums.TransactionType;
+import com.securewallet.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -21,8 +21,8 @@ public class TransactionResponse {
     private String sourceWalletName;
     private Long destinationWalletId;
     private String destinationWalletName;
-    private BigDecimal amount;
-    private BigDecimal fee;
+    private Money amount;
+    private Money fee;
     private TransactionType type;
     private TransactionStatus status;
     private String description;
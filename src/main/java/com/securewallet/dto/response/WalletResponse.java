@@ -2,12 +2,12 @@ package com.securewallet.dto.response;
 
 import com.securewallet.enums.WalletStatus;
 import com.securewallet.enums.WalletType;
+import com.securewallet.money.Money;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -19,10 +19,10 @@ public class WalletResponse {
     private String walletNumber;
     private String name;
     private WalletType walletType;
-    private BigDecimal balance;
-    private BigDecimal availableBalance;
-    private BigDecimal minimumBalance;
-    private BigDecimal dailyTransactionLimit;
+    private Money balance;
+    private Money availableBalance;
+    private Money minimumBalance;
+    private Money dailyTransactionLimit;
     private String currency;
     private WalletStatus status;
     private LocalDateTime createdAt;
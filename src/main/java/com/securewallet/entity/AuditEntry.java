@@ -0,0 +1,73 @@
+package com.securewallet.entity;
+
+import com.securewallet.enums.TransactionType;
+import com.securewallet.money.MinorUnitsConverter;
+import com.securewallet.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The durable audit record of a committed money movement. It is written in
+ * the same transaction that takes the posting off the outbox, so a posting
+ * is either still waiting for delivery or recorded here, never neither.
+ */
+@Entity
+@Table(name = "audit_entries",
+        indexes = @Index(name = "idx_audit_entries_recorded_at", columnList = "recorded_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class AuditEntry {
+
+    // One entry per transaction; a second insert for the same one fails its batch
+    @Id
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "reference_number", nullable = false)
+    private String referenceNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private TransactionType type;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long amount;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long fee;
+
+    @Column(name = "source_wallet_id")
+    private Long sourceWalletId;
+
+    @Column(name = "destination_wallet_id")
+    private Long destinationWalletId;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+
+    public Money getAmount() {
+        return Money.ofMinor(amount, currency);
+    }
+
+    public Money getFee() {
+        return Money.ofMinor(fee, currency);
+    }
+}
@@ -0,0 +1,41 @@
+package com.securewallet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Relay progress for one outbox partition. A relay worker holds this row's
+ * lock while it dispatches the partition, which keeps each wallet's events in
+ * order across workers and instances.
+ */
+@Entity
+@Table(name = "outbox_partitions")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxPartition {
+
+    @Id
+    @Column(name = "partition_id")
+    private Integer partition;
+
+    /** Id of the newest event dispatched from this partition. */
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    @Column(name = "dispatched_count", nullable = false)
+    private long dispatchedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** Consecutive failed batches; sets how long the partition is skipped. */
+    @Column(name = "failure_count", nullable = false)
+    private int failureCount;
+
+    @Column(name = "retry_at")
+    private LocalDateTime retryAt;
+}
@@ -0,0 +1,58 @@
+package com.securewallet.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Progress through one wallet id range of a {@link ReconciliationRun}. Advanced
+ * in the same transaction as the discrepancies found, so a resumed run neither
+ * repeats nor skips a wallet.
+ */
+@Entity
+@Table(name = "reconciliation_checkpoints")
+@IdClass(ReconciliationCheckpoint.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationCheckpoint {
+
+    @Id
+    @Column(name = "run_id")
+    private Long runId;
+
+    @Id
+    @Column(name = "partition_no")
+    private Integer partition;
+
+    /** Inclusive wallet id bounds of the range. */
+    @Column(name = "range_start", nullable = false)
+    private long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private long rangeEnd;
+
+    /** Highest wallet id already checked; the next chunk starts after it. */
+    @Column(name = "last_wallet_id", nullable = false)
+    private long lastWalletId;
+
+    @Column(name = "wallets_checked", nullable = false)
+    private long walletsChecked;
+
+    @Column(nullable = false)
+    private long discrepancies;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long runId;
+        private Integer partition;
+    }
+}
@@ -0,0 +1,60 @@
+package com.securewallet.entity;
+
+import com.securewallet.money.MinorUnitsConverter;
+import com.securewallet.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A wallet whose stored balance differs from the sum of its completed
+ * transactions, as seen by one reconciliation run.
+ */
+@Entity
+@Table(name = "reconciliation_discrepancies",
+        indexes = @Index(name = "idx_reconciliation_discrepancies_run_wallet", columnList = "run_id, wallet_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ReconciliationDiscrepancy {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "wallet_id", nullable = false)
+    private Long walletId;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "recorded_balance", nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long recordedBalance;
+
+    @Column(name = "expected_balance", nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long expectedBalance;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Column(name = "detected_at", nullable = false)
+    private LocalDateTime detectedAt;
+
+    public Money getRecordedBalance() {
+        return Money.ofMinor(recordedBalance, currency);
+    }
+
+    public Money getExpectedBalance() {
+        return Money.ofMinor(expectedBalance, currency);
+    }
+}
@@ -0,0 +1,64 @@
+package com.securewallet.entity;
+
+import com.securewallet.enums.ReconciliationMode;
+import com.securewallet.enums.ReconciliationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One pass of the ledger reconciliation. A run left {@code RUNNING} by a stopped
+ * instance is resumed from its {@link ReconciliationCheckpoint}s.
+ */
+@Entity
+@Table(name = "reconciliation_runs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReconciliationRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReconciliationMode mode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReconciliationStatus status;
+
+    /** Incremental runs check wallets touched by transactions after this id. */
+    @Column(name = "from_transaction_id", nullable = false)
+    private long fromTransactionId;
+
+    /** Newest transaction when the run started; where the next incremental run begins. */
+    @Column(name = "to_transaction_id", nullable = false)
+    private long toTransactionId;
+
+    @Column(nullable = false)
+    private int partitions;
+
+    @Column(name = "wallets_checked", nullable = false)
+    private long walletsChecked;
+
+    @Column(name = "discrepancy_count", nullable = false)
+    private long discrepancyCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    /** Touched by every checkpoint; a stale value means the run's instance is gone. */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @Column(name = "failure_message", length = 500)
+    private String failureMessage;
+}
@@ -2,19 +2,24 @@ package com.securewallet.entity;
 
 import com.securewallet.enums.TransactionStatus;
 import com.securewallet.enums.TransactionType;
+import com.securewallet.money.MinorUnitsConverter;
+import com.securewallet.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Entity
-@Table(name = "transactions")
+@Table(name = "transactions", indexes = {
+        @Index(name = "idx_transactions_source_wallet", columnList = "source_wallet_id"),
+        @Index(name = "idx_transactions_destination_wallet", columnList = "destination_wallet_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,12 +42,26 @@ public class Transaction {
     @JoinColumn(name = "destination_wallet_id")
     private Wallet destinationWallet;
 
+    // Money columns hold minor units in the transaction's currency
     @Column(nullable = false, precision = 19, scale = 4)
-    private BigDecimal amount;
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long amount;
 
+    // Nullable in older rows; read as zero
     @Column(precision = 19, scale = 4)
-    @Builder.Default
-    private BigDecimal fee = BigDecimal.ZERO;
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long fee;
+
+    // The default only lets the column be added to a populated table;
+    // TransactionCurrencyBackfill then sets existing rows from their wallets
+    @Column(nullable = false, length = 3)
+    @ColumnDefault("'USD'")
+    @Setter(AccessLevel.NONE)
+    private String currency;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "transaction_type", nullable = false)
@@ -90,4 +109,39 @@ public class Transaction {
         this.status = TransactionStatus.FAILED;
         this.description = (this.description != null ? this.description + " | " : "") + "Failed: " + reason;
     }
+
+    public Money getAmount() {
+        return Money.ofMinor(amount, currency);
+    }
+
+    public void setAmount(Money amount) {
+        this.amount = amount.getMinorUnits();
+        this.currency = amount.getCurrency();
+    }
+
+    public Money getFee() {
+        return Money.ofMinor(fee != null ? fee : 0L, currency);
+    }
+
+    public void setFee(Money fee) {
+        if (!fee.getCurrency().equals(currency)) {
+            throw new IllegalArgumentException("Fee currency " + fee.getCurrency() + " does not match " + currency);
+        }
+        this.fee = fee.getMinorUnits();
+    }
+
+    public static class TransactionBuilder {
+
+        // The amount fixes the transaction's currency
+        public TransactionBuilder amount(Money amount) {
+            this.amount = amount.getMinorUnits();
+            this.currency = amount.getCurrency();
+            return this;
+        }
+
+        public TransactionBuilder fee(Money fee) {
+            this.fee = fee.getMinorUnits();
+            return this;
+        }
+    }
 }
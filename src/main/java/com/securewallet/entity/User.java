@@ -5,6 +5,8 @@ import com.securewallet.enums.UserStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -55,7 +57,9 @@ public class User {
     @Builder.Default
     private Boolean emailVerified = false;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    // Loaded on first access, from the collection cache rather than a join with the user row
+    @ManyToMany(fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-roles")
     @JoinTable(
             name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -64,7 +68,8 @@ public class User {
     @Builder.Default
     private Set<Role> roles = new HashSet<>();
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Wallets are persisted through WalletRepository; nothing cascades from the user
+    @OneToMany(mappedBy = "user")
     @Builder.Default
     private List<Wallet> wallets = new ArrayList<>();
 
@@ -4,6 +4,8 @@ import com.securewallet.enums.WalletStatus;
 import com.securewallet.enums.WalletType;
 import com.securewallet.exception.InsufficientBalanceException;
 import com.securewallet.exception.InvalidTransactionException;
+import com.securewallet.money.MinorUnitsConverter;
+import com.securewallet.money.Money;
 import jakarta.persistence.*;
 import lombok.*;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -41,20 +43,29 @@ public class Wallet {
     @Column(name = "wallet_type", nullable = false)
     private WalletType walletType;
 
+    // Money columns hold minor units; see the Money accessors below
     @Column(nullable = false, precision = 19, scale = 4)
-    @Builder.Default
-    private BigDecimal balance = BigDecimal.ZERO;
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long balance;
 
+    // Nullable in older rows; read as zero
     @Column(name = "minimum_balance", precision = 19, scale = 4)
-    @Builder.Default
-    private BigDecimal minimumBalance = BigDecimal.ZERO;
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long minimumBalance;
 
     @Column(name = "interest_rate", precision = 5, scale = 4)
     @Builder.Default
     private BigDecimal interestRate = BigDecimal.ZERO;
 
     @Column(name = "daily_transaction_limit", precision = 19, scale = 4)
-    private BigDecimal dailyTransactionLimit;
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Long dailyTransactionLimit;
 
     @Column(nullable = false, length = 3)
     @Builder.Default
@@ -87,28 +98,93 @@ public class Wallet {
         return "W" + System.currentTimeMillis() + RandomStringUtils.randomNumeric(4);
     }
 
-    public void credit(BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public void credit(Money amount) {
+        if (!amount.isPositive()) {
             throw new InvalidTransactionException("Credit amount must be positive");
         }
-        this.balance = this.balance.add(amount);
+        checkCurrency(amount);
+        this.balance = Math.addExact(this.balance, amount.getMinorUnits());
     }
 
-    public void debit(BigDecimal amount) {
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public void debit(Money amount) {
+        if (!amount.isPositive()) {
             throw new InvalidTransactionException("Debit amount must be positive");
         }
-        if (this.balance.compareTo(amount) < 0) {
+        checkCurrency(amount);
+        if (this.balance < amount.getMinorUnits()) {
             throw new InsufficientBalanceException(this.id, amount);
         }
-        this.balance = this.balance.subtract(amount);
+        this.balance -= amount.getMinorUnits();
+    }
+
+    public boolean canCover(Money amount) {
+        checkCurrency(amount);
+        return this.balance >= amount.getMinorUnits();
+    }
+
+    public Money getBalance() {
+        return Money.ofMinor(balance, currency);
+    }
+
+    public void setBalance(Money balance) {
+        checkCurrency(balance);
+        this.balance = balance.getMinorUnits();
+    }
+
+    public Money getMinimumBalance() {
+        return Money.ofMinor(minimumBalance(), currency);
+    }
+
+    public void setMinimumBalance(Money minimumBalance) {
+        checkCurrency(minimumBalance);
+        this.minimumBalance = minimumBalance.getMinorUnits();
+    }
+
+    public Money getDailyTransactionLimit() {
+        return dailyTransactionLimit != null ? Money.ofMinor(dailyTransactionLimit, currency) : null;
+    }
+
+    public void setDailyTransactionLimit(Money dailyTransactionLimit) {
+        if (dailyTransactionLimit != null) {
+            checkCurrency(dailyTransactionLimit);
+        }
+        this.dailyTransactionLimit = dailyTransactionLimit != null ? dailyTransactionLimit.getMinorUnits() : null;
+    }
+
+    public Money getAvailableBalance() {
+        return Money.ofMinor(Math.subtractExact(this.balance, minimumBalance()), currency);
     }
 
-    public BigDecimal getAvailableBalance() {
-        return this.balance.subtract(this.minimumBalance);
+    private long minimumBalance() {
+        return minimumBalance != null ? minimumBalance : 0L;
     }
 
     public boolean isActive() {
         return this.status == WalletStatus.ACTIVE;
     }
+
+    private void checkCurrency(Money amount) {
+        if (!this.currency.equals(amount.getCurrency())) {
+            throw new InvalidTransactionException(
+                    "Currency " + amount.getCurrency() + " does not match wallet currency " + this.currency);
+        }
+    }
+
+    public static class WalletBuilder {
+
+        public WalletBuilder balance(Money balance) {
+            this.balance = balance.getMinorUnits();
+            return this;
+        }
+
+        public WalletBuilder minimumBalance(Money minimumBalance) {
+            this.minimumBalance = minimumBalance.getMinorUnits();
+            return this;
+        }
+
+        public WalletBuilder dailyTransactionLimit(Money dailyTransactionLimit) {
+            this.dailyTransactionLimit = dailyTransactionLimit != null ? dailyTransactionLimit.getMinorUnits() : null;
+            return this;
+        }
+    }
 }
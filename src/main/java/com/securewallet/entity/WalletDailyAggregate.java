@@ -0,0 +1,73 @@
+package com.securewallet.entity;
+
+import com.securewallet.enums.TransactionType;
+import com.securewallet.money.MinorUnitsConverter;
+import com.securewallet.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Completed transactions touching a wallet on one day, by transaction type.
+ * Maintained incrementally by {@code AggregateBuffer} and rebuilt from
+ * {@code transactions} by the backfill job.
+ */
+@Entity
+@Table(name = "wallet_daily_aggregates",
+        indexes = @Index(name = "idx_wallet_daily_aggregates_wallet_date", columnList = "wallet_id, activity_date"))
+@IdClass(WalletDailyAggregate.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class WalletDailyAggregate {
+
+    @Id
+    @Column(name = "wallet_id")
+    private Long walletId;
+
+    @Id
+    @Column(name = "activity_date")
+    private LocalDate day;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long inflow;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long outflow;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    public Money getInflow() {
+        return Money.ofMinor(inflow, currency);
+    }
+
+    public Money getOutflow() {
+        return Money.ofMinor(outflow, currency);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long walletId;
+        private LocalDate day;
+        private TransactionType type;
+    }
+}
@@ -0,0 +1,85 @@
+package com.securewallet.entity;
+
+import com.securewallet.enums.AggregatePeriod;
+import com.securewallet.enums.TransactionType;
+import com.securewallet.money.MinorUnitsConverter;
+import com.securewallet.money.Money;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Week, month and year rollups of {@link WalletDailyAggregate}, maintained by the
+ * same buffered flushes and rebuilt from the daily rows by the backfill job.
+ */
+@Entity
+@Table(name = "wallet_period_aggregates",
+        indexes = @Index(name = "idx_wallet_period_aggregates_wallet_period",
+                columnList = "wallet_id, period, period_start"))
+@IdClass(WalletPeriodAggregate.Key.class)
+@Getter
+@Setter
+@NoArgsConstructor
+public class WalletPeriodAggregate {
+
+    @Id
+    @Column(name = "wallet_id")
+    private Long walletId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private AggregatePeriod period;
+
+    @Id
+    @Column(name = "period_start")
+    private LocalDate periodStart;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", length = 20)
+    private TransactionType type;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long inflow;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    @Convert(converter = MinorUnitsConverter.class)
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long outflow;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    // Set by every write, so readers on any instance can tell their cached results are stale
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public Money getInflow() {
+        return Money.ofMinor(inflow, currency);
+    }
+
+    public Money getOutflow() {
+        return Money.ofMinor(outflow, currency);
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long walletId;
+        private AggregatePeriod period;
+        private LocalDate periodStart;
+        private TransactionType type;
+    }
+}
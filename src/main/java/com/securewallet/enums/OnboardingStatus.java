@@ -0,0 +1,8 @@
+package com.securewallet.enums;
+
+public enum OnboardingStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    FAILED
+}
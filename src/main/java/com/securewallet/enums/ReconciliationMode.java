@@ -0,0 +1,8 @@
+package com.securewallet.enums;
+
+public enum ReconciliationMode {
+    /** Every wallet. */
+    FULL,
+    /** Wallets touched by transactions since the last completed run. */
+    INCREMENTAL
+}
@@ -0,0 +1,7 @@
+package com.securewallet.enums;
+
+public enum ReconciliationStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,10 @@
+package com.securewallet.event;
+
+import com.securewallet.dto.response.TransactionResponse;
+
+/**
+ * Published inside the transaction that posted a ledger entry; listeners should
+ * react after commit so readers never observe a rolled-back transaction.
+ */
+public record TransactionPostedEvent(TransactionResponse transaction) {
+}
@@ -0,0 +1,18 @@
+package com.securewallet.event;
+
+import com.securewallet.entity.Wallet;
+
+/**
+ * Published inside the transaction that modified or created a wallet; listeners
+ * should react after commit, when the wallet's version reflects the flushed row.
+ */
+public record WalletChangedEvent(Wallet wallet, boolean created) {
+
+    public static WalletChangedEvent updated(Wallet wallet) {
+        return new WalletChangedEvent(wallet, false);
+    }
+
+    public static WalletChangedEvent created(Wallet wallet) {
+        return new WalletChangedEvent(wallet, true);
+    }
+}
@@ -0,0 +1,12 @@
+package com.securewallet.exception;
+
+/**
+ * Base for expected, client-caused failures. They are thrown on hot rejection
+ * paths and always handled by {@link GlobalExceptionHandler}, so no stack trace
+ * is captured.
+ */
+public abstract class BusinessException extends RuntimeException {
+    protected BusinessException(String message) {
+        super(message, null, false, false);
+    }
+}
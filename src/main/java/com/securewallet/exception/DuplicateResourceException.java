@@ -1,6 +1,6 @@
 package com.securewallet.exception;
 
-public class DuplicateResourceException extends RuntimeException {
+public class DuplicateResourceException extends BusinessException {
     public DuplicateResourceException(String message) {
         super(message);
     }
@@ -0,0 +1,186 @@
+package com.securewallet.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fast path for error bodies. Each error code gets a template holding the
+ * pre-encoded JSON around the message, its {@code securewallet.errors} counter
+ * and a log rate limiter, so a rejection costs one small byte array instead of
+ * a Jackson serialization and a meter lookup. Bodies are byte-for-byte what
+ * {@code ApiResponse.error(message, errorCode)} serializes to.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ErrorResponses {
+
+    private static final byte[] HEAD = "{\"success\":false,\"message\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TAIL = "\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.errors.log-interval:1s}")
+    private Duration logInterval;
+
+    private final ConcurrentMap<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Counts the rejection, logs it subject to the per-code rate limit and builds
+     * the response.
+     */
+    public ResponseEntity<byte[]> reject(HttpStatus status, String errorCode, String message) {
+        Template template = template(status, errorCode);
+        template.log(message);
+        template.counter.increment();
+        return toEntity(template, message);
+    }
+
+    /**
+     * Counts and builds the response without logging, for callers that have
+     * already logged the failure.
+     */
+    public ResponseEntity<byte[]> respond(HttpStatus status, String errorCode, String message) {
+        Template template = template(status, errorCode);
+        template.counter.increment();
+        return toEntity(template, message);
+    }
+
+    /**
+     * Writes a rejection straight to the servlet response, for filters and entry
+     * points running outside the MVC exception handling.
+     */
+    public void write(HttpServletResponse response, HttpStatus status, String errorCode, String message)
+            throws IOException {
+        Template template = template(status, errorCode);
+        template.log(message);
+        template.counter.increment();
+        byte[] body = template.render(message);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Counts an error whose body is still produced by Jackson.
+     */
+    public void count(HttpStatus status, String errorCode) {
+        template(status, errorCode).counter.increment();
+    }
+
+    private ResponseEntity<byte[]> toEntity(Template template, String message) {
+        return ResponseEntity.status(template.status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(template.render(message));
+    }
+
+    private Template template(HttpStatus status, String errorCode) {
+        // The same code can be raised with different statuses (UNAUTHORIZED is 401 and 403)
+        TemplateKey key = new TemplateKey(status, errorCode);
+        Template template = templates.get(key);
+        if (template == null) {
+            template = templates.computeIfAbsent(key, k -> new Template(k.status(), k.errorCode()));
+        }
+        return template;
+    }
+
+    private final class Template {
+        private final HttpStatus status;
+        private final String errorCode;
+        private final byte[] middle;
+        private final Counter counter;
+        private final AtomicLong nextLogNanos = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+        // Most codes are raised with one fixed message; remember its encoding
+        private volatile EncodedMessage lastMessage;
+
+        Template(HttpStatus status, String errorCode) {
+            this.status = status;
+            this.errorCode = errorCode;
+            this.middle = ("\",\"errorCode\":\"" + new String(JsonStringEncoder.getInstance().quoteAsString(errorCode))
+                    + "\",\"timestamp\":\"").getBytes(StandardCharsets.UTF_8);
+            this.counter = Counter.builder("securewallet.errors")
+                    .tag("code", errorCode)
+                    .tag("status", Integer.toString(status.value()))
+                    .register(meterRegistry);
+        }
+
+        byte[] render(String message) {
+            byte[] encodedMessage = encode(message);
+            byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                    .getBytes(StandardCharsets.US_ASCII);
+            byte[] body = new byte[HEAD.length + encodedMessage.length + middle.length + timestamp.length
+                    + TAIL.length];
+            int pos = 0;
+            System.arraycopy(HEAD, 0, body, pos, HEAD.length);
+            pos += HEAD.length;
+            System.arraycopy(encodedMessage, 0, body, pos, encodedMessage.length);
+            pos += encodedMessage.length;
+            System.arraycopy(middle, 0, body, pos, middle.length);
+            pos += middle.length;
+            System.arraycopy(timestamp, 0, body, pos, timestamp.length);
+            pos += timestamp.length;
+            System.arraycopy(TAIL, 0, body, pos, TAIL.length);
+            return body;
+        }
+
+        private byte[] encode(String message) {
+            EncodedMessage last = lastMessage;
+            if (last != null && last.message.equals(message)) {
+                return last.bytes;
+            }
+            byte[] bytes = JsonStringEncoder.getInstance().quoteAsUTF8(message);
+            lastMessage = new EncodedMessage(message, bytes);
+            return bytes;
+        }
+
+        /**
+         * Logs at most one line per code per interval, reporting how many were
+         * suppressed since; every rejection is logged when DEBUG is enabled.
+         */
+        void log(String message) {
+            if (log.isDebugEnabled()) {
+                log.debug("{} {}: {}", status.value(), errorCode, message);
+                return;
+            }
+            long now = System.nanoTime();
+            long next = nextLogNanos.get();
+            if (now - next >= 0 && nextLogNanos.compareAndSet(next, now + logInterval.toNanos())) {
+                long skipped = suppressed.sumThenReset();
+                if (skipped > 0) {
+                    log.warn("{} {}: {} ({} similar suppressed)", status.value(), errorCode, message, skipped);
+                } else {
+                    log.warn("{} {}: {}", status.value(), errorCode, message);
+                }
+            } else {
+                suppressed.increment();
+            }
+        }
+    }
+
+    private record TemplateKey(HttpStatus status, String errorCode) {
+    }
+
+    private record EncodedMessage(String message, byte[] bytes) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.securewallet.exception;
 
 import com.securewallet.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,63 +15,45 @@ import java.util.HashMap;
 import java.util.Map;
 
 @RestControllerAdvice
+@RequiredArgsConstructor
 @Slf4j
 public class GlobalExceptionHandler {
 
+    private final ErrorResponses errorResponses;
+
     @ExceptionHandler(WalletNotFoundException.class)
-    public ResponseEntity<ApiResponse<Void>> handleWalletNotFound(WalletNotFoundException ex) {
-        log.error("Wallet not found: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error(ex.getMessage(), "WALLET_NOT_FOUND"));
+    public ResponseEntity<byte[]> handleWalletNotFound(WalletNotFoundException ex) {
+        return errorResponses.reject(HttpStatus.NOT_FOUND, "WALLET_NOT_FOUND", ex.getMessage());
     }
 
     @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<ApiResponse<Void>> handleUserNotFound(UserNotFoundException ex) {
-        log.error("User not found: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.NOT_FOUND)
-                .body(ApiResponse.error(ex.getMessage(), "USER_NOT_FOUND"));
+    public ResponseEntity<byte[]> handleUserNotFound(UserNotFoundException ex) {
+        return errorResponses.reject(HttpStatus.NOT_FOUND, "USER_NOT_FOUND", ex.getMessage());
     }
 
     @ExceptionHandler(InsufficientBalanceException.class)
-    public ResponseEntity<ApiResponse<Void>> handleInsufficientBalance(InsufficientBalanceException ex) {
-        log.error("Insufficient balance: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(ex.getMessage(), "INSUFFICIENT_BALANCE"));
+    public ResponseEntity<byte[]> handleInsufficientBalance(InsufficientBalanceException ex) {
+        return errorResponses.reject(HttpStatus.BAD_REQUEST, "INSUFFICIENT_BALANCE", ex.getMessage());
     }
 
     @ExceptionHandler(InvalidTransactionException.class)
-    public ResponseEntity<ApiResponse<Void>> handleInvalidTransaction(InvalidTransactionException ex) {
-        log.error("Invalid transaction: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.BAD_REQUEST)
-                .body(ApiResponse.error(ex.getMessage(), "INVALID_TRANSACTION"));
+    public ResponseEntity<byte[]> handleInvalidTransaction(InvalidTransactionException ex) {
+        return errorResponses.reject(HttpStatus.BAD_REQUEST, "INVALID_TRANSACTION", ex.getMessage());
     }
 
     @ExceptionHandler(UnauthorizedAccessException.class)
-    public ResponseEntity<ApiResponse<Void>> handleUnauthorized(UnauthorizedAccessException ex) {
-        log.error("Unauthorized access: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.FORBIDDEN)
-                .body(ApiResponse.error(ex.getMessage(), "UNAUTHORIZED"));
+    public ResponseEntity<byte[]> handleUnauthorized(UnauthorizedAccessException ex) {
+        return errorResponses.reject(HttpStatus.FORBIDDEN, "UNAUTHORIZED", ex.getMessage());
     }
 
     @ExceptionHandler(DuplicateResourceException.class)
-    public ResponseEntity<ApiResponse<Void>> handleDuplicate(DuplicateResourceException ex) {
-        log.error("Duplicate resource: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error(ex.getMessage(), "DUPLICATE_RESOURCE"));
+    public ResponseEntity<byte[]> handleDuplicate(DuplicateResourceException ex) {
+        return errorResponses.reject(HttpStatus.CONFLICT, "DUPLICATE_RESOURCE", ex.getMessage());
     }
 
     @ExceptionHandler(BadCredentialsException.class)
-    public ResponseEntity<ApiResponse<Void>> handleBadCredentials(BadCredentialsException ex) {
-        log.error("Bad credentials: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.UNAUTHORIZED)
-                .body(ApiResponse.error("Invalid email or password", "INVALID_CREDENTIALS"));
+    public ResponseEntity<byte[]> handleBadCredentials(BadCredentialsException ex) {
+        return errorResponses.reject(HttpStatus.UNAUTHORIZED, "INVALID_CREDENTIALS", "Invalid email or password");
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -79,27 +62,22 @@ public class GlobalExceptionHandler {
         ex.getBindingResult().getFieldErrors().forEach(error ->
                 errors.put(error.getField(), error.getDefaultMessage())
         );
+        errorResponses.count(HttpStatus.BAD_REQUEST, "VALIDATION_ERROR");
         return ResponseEntity
                 .status(HttpStatus.BAD_REQUEST)
                 .body(ApiResponse.error("Validation failed", "VALIDATION_ERROR", errors));
     }
 
     @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
-    public ResponseEntity<ApiResponse<Void>> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
-        log.error("Concurrent modification detected: {}", ex.getMessage());
-        return ResponseEntity
-                .status(HttpStatus.CONFLICT)
-                .body(ApiResponse.error(
-                        "The resource was modified by another request. Please retry.",
-                        "CONCURRENT_MODIFICATION"
-                ));
+    public ResponseEntity<byte[]> handleOptimisticLock(ObjectOptimisticLockingFailureException ex) {
+        return errorResponses.reject(HttpStatus.CONFLICT, "CONCURRENT_MODIFICATION",
+                "The resource was modified by another request. Please retry.");
     }
 
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiResponse<Void>> handleGeneral(Exception ex) {
+    public ResponseEntity<byte[]> handleGeneral(Exception ex) {
         log.error("Unexpected error: ", ex);
-        return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(ApiResponse.error("An unexpected error occurred", "INTERNAL_ERROR"));
+        return errorResponses.respond(HttpStatus.INTERNAL_SERVER_ERROR, "INTERNAL_ERROR",
+                "An unexpected error occurred");
     }
 }
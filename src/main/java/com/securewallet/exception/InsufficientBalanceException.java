@@ -1,9 +1,9 @@
 package com.securewallet.exception;
 
-import java.math.BigDecimal;
+import com.securewallet.money.Money;
 
-public class InsufficientBalanceException extends RuntimeException {
-    public InsufficientBalanceException(Long walletId, BigDecimal amount) {
+public class InsufficientBalanceException extends BusinessException {
+    public InsufficientBalanceException(Long walletId, Money amount) {
         super(String.format("Insufficient balance in wallet %d for amount %s", walletId, amount));
     }
 }
@@ -1,6 +1,6 @@
 package com.securewallet.exception;
 
-public class InvalidTransactionException extends RuntimeException {
+public class InvalidTransactionException extends BusinessException {
     public InvalidTransactionException(String message) {
         super(message);
     }
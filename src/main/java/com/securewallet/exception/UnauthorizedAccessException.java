@@ -1,6 +1,6 @@
 package com.securewallet.exception;
 
-public class UnauthorizedAccessException extends RuntimeException {
+public class UnauthorizedAccessException extends BusinessException {
     public UnauthorizedAccessException(String message) {
         super(message);
     }
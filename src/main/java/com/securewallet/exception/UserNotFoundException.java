@@ -1,6 +1,6 @@
 package com.securewallet.exception;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends BusinessException {
     public UserNotFoundException(Long userId) {
         super("User not found with id: " + userId);
     }
@@ -1,6 +1,6 @@
 package com.securewallet.exception;
 
-public class WalletNotFoundException extends RuntimeException {
+public class WalletNotFoundException extends BusinessException {
     public WalletNotFoundException(Long walletId) {
         super("Wallet not found with id: " + walletId);
     }
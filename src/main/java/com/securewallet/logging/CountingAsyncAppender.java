@@ -0,0 +1,60 @@
+package com.securewallet.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AsyncAppender} that counts the events it drops, either because the
+ * queue is past the discarding threshold or because it is full and the appender
+ * never blocks. Logback keeps the queue private, so the count is taken from the
+ * remaining capacity just before the append and is approximate under contention.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final ConcurrentMap<String, LongAdder> DROPPED = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, CountingAsyncAppender> RUNNING = new ConcurrentHashMap<>();
+
+    private LongAdder dropped;
+
+    static Map<String, LongAdder> droppedCounts() {
+        return Collections.unmodifiableMap(DROPPED);
+    }
+
+    /**
+     * Events waiting in the named appender's queue, or 0 if it is not running.
+     */
+    static int queued(String name) {
+        CountingAsyncAppender appender = RUNNING.get(name);
+        return appender != null ? appender.getNumberOfElementsInQueue() : 0;
+    }
+
+    @Override
+    public void start() {
+        dropped = DROPPED.computeIfAbsent(getName(), name -> new LongAdder());
+        super.start();
+        if (isStarted()) {
+            RUNNING.put(getName(), this);
+        }
+    }
+
+    @Override
+    public void stop() {
+        RUNNING.remove(getName(), this);
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        int remaining = getRemainingCapacity();
+        if ((remaining < getDiscardingThreshold() && isDiscardable(event)) || (remaining == 0 && isNeverBlock())) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+}
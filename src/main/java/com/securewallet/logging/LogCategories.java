@@ -0,0 +1,27 @@
+package com.securewallet.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logger categories with their own routing in {@code logback-spring.xml}. The
+ * read and session categories are sampled by {@link SamplingTurboFilter}; the
+ * audit category has its own appender that never discards events.
+ */
+public final class LogCategories {
+
+    /** Committed money movements. */
+    public static final Logger AUDIT = LoggerFactory.getLogger("securewallet.audit");
+
+    public static final Logger WALLET_READS = LoggerFactory.getLogger("securewallet.reads.wallet");
+
+    public static final Logger TRANSACTION_READS = LoggerFactory.getLogger("securewallet.reads.transaction");
+
+    public static final Logger DASHBOARD_READS = LoggerFactory.getLogger("securewallet.reads.dashboard");
+
+    /** Logins, token refreshes and logouts. */
+    public static final Logger SESSIONS = LoggerFactory.getLogger("securewallet.auth.session");
+
+    private LogCategories() {
+    }
+}
@@ -0,0 +1,37 @@
+package com.securewallet.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Publishes dropped and sampled-out log events and async queue depth. Logging is
+ * configured before the context starts, so every appender and sampling category
+ * is known by the time meters are bound.
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CountingAsyncAppender.droppedCounts().forEach((appender, dropped) -> {
+            FunctionCounter.builder("securewallet.logging.dropped", dropped, LongAdder::sum)
+                    .description("Log events dropped by a full async appender")
+                    .tag("appender", appender)
+                    .register(registry);
+            Gauge.builder("securewallet.logging.queue", () -> CountingAsyncAppender.queued(appender))
+                    .description("Log events waiting in the async appender queue")
+                    .tag("appender", appender)
+                    .register(registry);
+        });
+        SamplingTurboFilter.sampledOutCounts().forEach((category, sampledOut) ->
+                FunctionCounter.builder("securewallet.logging.sampled.out", sampledOut, LongAdder::sum)
+                        .description("Log events skipped by per-category sampling")
+                        .tag("category", category)
+                        .register(registry));
+    }
+}
@@ -0,0 +1,107 @@
+package com.securewallet.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps roughly one in {@code keepOneIn} INFO and DEBUG events per logger
+ * category. It runs before the event is built, so with the fluent API a
+ * sampled-out call allocates nothing. WARN and ERROR always pass. Counts of
+ * sampled-out events survive reconfiguration and are published by
+ * {@link LoggingMetrics}.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final ConcurrentMap<String, LongAdder> SAMPLED_OUT = new ConcurrentHashMap<>();
+
+    private final List<Category> categories = new ArrayList<>();
+
+    public void addCategory(Category category) {
+        categories.add(category);
+    }
+
+    static Map<String, LongAdder> sampledOutCounts() {
+        return Collections.unmodifiableMap(SAMPLED_OUT);
+    }
+
+    @Override
+    public void start() {
+        for (Category category : categories) {
+            if (category.name == null || category.keepOneIn < 1) {
+                addError("Sampling category needs a name and keepOneIn >= 1");
+                return;
+            }
+            category.sampledOut = SAMPLED_OUT.computeIfAbsent(category.name, name -> new LongAdder());
+        }
+        // Most specific category wins
+        categories.sort(Comparator.comparingInt((Category category) -> category.name.length()).reversed());
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (!isStarted() || level == null || level.levelInt > Level.INFO_INT
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Category category = categoryOf(logger.getName());
+        if (category == null || category.keepOneIn == 1
+                || ThreadLocalRandom.current().nextInt(category.keepOneIn) == 0) {
+            return FilterReply.NEUTRAL;
+        }
+        category.sampledOut.increment();
+        return FilterReply.DENY;
+    }
+
+    private Category categoryOf(String loggerName) {
+        for (Category category : categories) {
+            String name = category.name;
+            if (loggerName.startsWith(name)
+                    && (loggerName.length() == name.length() || loggerName.charAt(name.length()) == '.')) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A logger name prefix and its sampling rate, configured as a nested
+     * {@code <category>} element.
+     */
+    public static class Category {
+
+        private String name;
+        private int keepOneIn = 1;
+        private LongAdder sampledOut;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getKeepOneIn() {
+            return keepOneIn;
+        }
+
+        public void setKeepOneIn(int keepOneIn) {
+            this.keepOneIn = keepOneIn;
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package com.securewallet.notification;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securewallet.dto.response.BalanceResponse;
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.entity.Wallet;
+import com.securewallet.event.TransactionPostedEvent;
+import com.securewallet.event.WalletChangedEvent;
+import com.securewallet.repository.WalletRepository;
+import com.securewallet.security.WalletOwnershipIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed transactions and balance changes out to each user's open
+ * event streams. Streams are servlet async requests, so an idle connection
+ * holds no thread. Publishing serializes an event once and appends it to every
+ * subscriber's bounded queue without locking; a small dispatch pool drains the
+ * queues, at most one task per subscriber.
+ * <p>
+ * A subscriber that falls {@code queue-capacity} events behind loses its queue
+ * and gets a {@code resync} event instead, telling the client to reload. A slow
+ * client therefore costs bounded memory.
+ * <p>
+ * A client that stops reading altogether blocks its write once the socket
+ * buffer fills. A write still blocked after {@code write-timeout} ends the
+ * stream, and the pool grows by a thread for as long as the write stays stuck,
+ * so dead clients never hold the threads live streams are served by. The stuck
+ * thread returns when the socket write times out; up to
+ * {@code max-stalled-writes} are replaced at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationHub {
+
+    public static final String TRANSACTION = "transaction";
+    public static final String BALANCE = "balance";
+    public static final String RESYNC = "resync";
+
+    private static final Subscriber[] NONE = new Subscriber[0];
+    private static final long NOT_WRITING = Long.MIN_VALUE;
+
+    private final ObjectMapper objectMapper;
+    private final WalletOwnershipIndex ownershipIndex;
+    private final WalletRepository walletRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.notifications.max-lifetime:15m}")
+    private Duration maxLifetime;
+
+    @Value("${securewallet.notifications.max-streams-per-user:5}")
+    private int maxStreamsPerUser;
+
+    @Value("${securewallet.notifications.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${securewallet.notifications.heartbeat-interval:25000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${securewallet.notifications.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    @Value("${securewallet.notifications.write-timeout:5000}")
+    private long writeTimeoutMs;
+
+    @Value("${securewallet.notifications.max-stalled-writes:256}")
+    private int maxStalledWrites;
+
+    // Copy-on-write per user, so publishing reads a plain array
+    private final ConcurrentHashMap<Long, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger streams = new AtomicInteger();
+    // Subscribers holding a dispatch thread, including ended ones whose write is stuck
+    private final Set<Subscriber> draining = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger stalledWrites = new AtomicInteger();
+
+    private ThreadPoolExecutor dispatcher;
+    private Set<DataWithMediaType> heartbeat;
+    private Set<DataWithMediaType> resync;
+    private Counter delivered;
+    private Counter resyncs;
+    private Counter writeTimeouts;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        dispatcher = new ThreadPoolExecutor(dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "notification-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat = SseEmitter.event().comment("keepalive").build();
+        resync = SseEmitter.event().name(RESYNC).data("{}", MediaType.APPLICATION_JSON).build();
+        Gauge.builder("securewallet.notifications.streams", streams, AtomicInteger::get)
+                .description("Open notification streams")
+                .register(meterRegistry);
+        delivered = Counter.builder("securewallet.notifications.delivered")
+                .description("Events written to notification streams")
+                .register(meterRegistry);
+        resyncs = Counter.builder("securewallet.notifications.resyncs")
+                .description("Streams that fell too far behind and were told to reload")
+                .register(meterRegistry);
+        writeTimeouts = Counter.builder("securewallet.notifications.write-timeouts")
+                .description("Streams ended because a write stayed blocked past the write timeout")
+                .register(meterRegistry);
+        Gauge.builder("securewallet.notifications.stalled-writes", stalledWrites, AtomicInteger::get)
+                .description("Dispatch threads stuck writing to ended streams")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the user, closing their oldest one beyond
+     * {@code max-streams-per-user}. Streams end after {@code max-lifetime} and the
+     * client reconnects, re-authenticating with a current token.
+     */
+    public SseEmitter subscribe(long userId) {
+        SseEmitter emitter = new SseEmitter(maxLifetime.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(subscriber::close);
+        // Completing here ends the response normally instead of raising a timeout error
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+
+        Subscriber[] evicted = new Subscriber[1];
+        subscribers.compute(userId, (k, current) -> {
+            Subscriber[] existing = current != null ? current : NONE;
+            int keep = Math.min(existing.length, maxStreamsPerUser - 1);
+            if (keep < existing.length) {
+                evicted[0] = existing[0];
+            }
+            Subscriber[] updated = Arrays.copyOfRange(existing, existing.length - keep, existing.length + 1);
+            updated[keep] = subscriber;
+            return updated;
+        });
+        streams.incrementAndGet();
+        if (evicted[0] != null) {
+            evicted[0].end();
+        }
+        // Commits the response headers so the client sees the stream open at once
+        subscriber.offer(heartbeat);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTransactionPosted(TransactionPostedEvent event) {
+        TransactionResponse transaction = event.transaction();
+        long sourceOwner = owner(transaction.getSourceWalletId());
+        long destinationOwner = owner(transaction.getDestinationWalletId());
+        if (!hasSubscribers(sourceOwner) && !hasSubscribers(destinationOwner)) {
+            return;
+        }
+        Set<DataWithMediaType> frame = frame(TRANSACTION, String.valueOf(transaction.getId()), transaction);
+        publish(sourceOwner, frame);
+        if (destinationOwner != sourceOwner) {
+            publish(destinationOwner, frame);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onWalletChanged(WalletChangedEvent event) {
+        Wallet wallet = event.wallet();
+        long userId = wallet.getUser().getId();
+        if (!hasSubscribers(userId)) {
+            return;
+        }
+        BalanceResponse balance = BalanceResponse.builder()
+                .walletId(wallet.getId())
+                .walletName(wallet.getName())
+                .balance(wallet.getBalance())
+                .availableBalance(wallet.getAvailableBalance())
+                .currency(wallet.getCurrency())
+                .build();
+        publish(userId, frame(BALANCE, null, balance));
+    }
+
+    /**
+     * Sends a comment to streams that have been quiet for a heartbeat interval,
+     * keeping proxies from closing them and detecting clients that went away.
+     */
+    @Scheduled(fixedDelayString = "${securewallet.notifications.heartbeat-interval:25000}")
+    public void heartbeat() {
+        long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMs);
+        for (Subscriber[] userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                if (subscriber.lastSentNanos - idleSince <= 0) {
+                    subscriber.offer(heartbeat);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ends streams whose write has been blocked for longer than
+     * {@code write-timeout} and lets the pool start a thread in place of each,
+     * until its write returns.
+     */
+    @Scheduled(fixedDelayString = "${securewallet.notifications.write-check-interval:1000}")
+    public void expireStalledWrites() {
+        long startedBefore = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(writeTimeoutMs);
+        for (Subscriber subscriber : draining) {
+            long started = subscriber.writeStartedNanos;
+            if (started != NOT_WRITING && started - startedBefore < 0) {
+                subscriber.stall();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Subscriber[] userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                subscriber.end();
+            }
+        }
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(1, TimeUnit.SECONDS)) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    private boolean hasSubscribers(long userId) {
+        return userId != WalletOwnershipIndex.NO_OWNER && subscribers.containsKey(userId);
+    }
+
+    private void publish(long userId, Set<DataWithMediaType> frame) {
+        if (userId == WalletOwnershipIndex.NO_OWNER) {
+            return;
+        }
+        Subscriber[] userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.offer(frame);
+        }
+    }
+
+    private Set<DataWithMediaType> frame(String name, String id, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + name + " notification", e);
+        }
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name);
+        if (id != null) {
+            event.id(id);
+        }
+        return event.data(json, MediaType.APPLICATION_JSON).build();
+    }
+
+    private long owner(Long walletId) {
+        if (walletId == null) {
+            return WalletOwnershipIndex.NO_OWNER;
+        }
+        long owner = ownershipIndex.ownerOf(walletId);
+        if (owner == WalletOwnershipIndex.NO_OWNER) {
+            owner = walletRepository.findVersionById(walletId)
+                    .map(WalletRepository.WalletVersion::getUserId)
+                    .orElse(WalletOwnershipIndex.NO_OWNER);
+        }
+        return owner;
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (k, current) -> {
+            int index = Arrays.asList(current).indexOf(subscriber);
+            if (index < 0) {
+                return current;
+            }
+            if (current.length == 1) {
+                return null;
+            }
+            Subscriber[] updated = new Subscriber[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+            return updated;
+        });
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        int size = dispatchThreads + Math.min(stalledWrites.addAndGet(delta), maxStalledWrites);
+        // The maximum may never drop below the core size, so the order depends on the direction
+        if (size > dispatcher.getCorePoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size);
+        } else {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private final class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final ConcurrentLinkedQueue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean overflowed;
+        private volatile long lastSentNanos = System.nanoTime();
+        private volatile long writeStartedNanos = NOT_WRITING;
+
+        Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (queued.incrementAndGet() > queueCapacity) {
+                queued.decrementAndGet();
+                overflowed = true;
+            } else {
+                queue.offer(frame);
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            draining.add(this);
+            try {
+                while (!closed.get()) {
+                    if (overflowed) {
+                        overflowed = false;
+                        while (queue.poll() != null) {
+                            queued.decrementAndGet();
+                        }
+                        resyncs.increment();
+                        send(resync);
+                        continue;
+                    }
+                    Set<DataWithMediaType> frame = queue.poll();
+                    if (frame == null) {
+                        break;
+                    }
+                    queued.decrementAndGet();
+                    send(frame);
+                }
+                // Ended by eviction, shutdown or a stalled write; only this thread touches the emitter
+                if (closed.get() && completed.compareAndSet(false, true)) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the stream already completed
+                close();
+                completed.set(true);
+                emitter.completeWithError(e);
+            } finally {
+                draining.remove(this);
+                scheduled.set(false);
+            }
+            // An offer or end() that lost the race with the end of the loop above
+            if (closed.get() ? !completed.get() : overflowed || !queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(Set<DataWithMediaType> frame) throws IOException {
+            writeStartedNanos = System.nanoTime();
+            try {
+                emitter.send(frame);
+            } finally {
+                writeStartedNanos = NOT_WRITING;
+                if (stalled.get()) {
+                    releaseStalledThread();
+                }
+            }
+            lastSentNanos = System.nanoTime();
+            if (frame != heartbeat) {
+                delivered.increment();
+            }
+        }
+
+        /**
+         * Gives up on a write the client is not reading. The emitter is left to
+         * the blocked thread, which holds its lock until the socket write fails.
+         */
+        void stall() {
+            if (stalled.compareAndSet(false, true)) {
+                close();
+                writeTimeouts.increment();
+                resizeDispatcher(1);
+                // The write may have returned before the pool grew
+                if (writeStartedNanos == NOT_WRITING) {
+                    releaseStalledThread();
+                }
+                log.debug("Ended the notification stream of user {} after a write blocked for over {} ms",
+                        userId, writeTimeoutMs);
+            }
+        }
+
+        private void releaseStalledThread() {
+            if (released.compareAndSet(false, true)) {
+                resizeDispatcher(-1);
+            }
+        }
+
+        /**
+         * Closes the stream from outside the dispatcher. Completing the emitter
+         * is left to a drain, since a write in progress holds the emitter's lock.
+         */
+        void end() {
+            close();
+            schedule();
+        }
+
+        void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+                streams.decrementAndGet();
+                queue.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.securewallet.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securewallet.entity.OutboxEvent;
+import com.securewallet.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Appends events to {@code outbox_events} inside the caller's transaction, at
+ * the cost of one insert; delivery happens later on the {@link OutboxRelay}'s
+ * threads.
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${securewallet.outbox.partitions:64}")
+    private int partitions;
+
+    /**
+     * Records an event to be delivered in order with the other events of the
+     * same wallet.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventType, long walletId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + eventType + " outbox event", e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .partition(partitionOf(walletId))
+                .aggregateId(walletId)
+                .eventType(eventType)
+                .payload(json)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    int partitions() {
+        return partitions;
+    }
+
+    private int partitionOf(long walletId) {
+        return (int) Math.floorMod(walletId, (long) partitions);
+    }
+}
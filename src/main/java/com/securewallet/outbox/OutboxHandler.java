@@ -0,0 +1,24 @@
+package com.securewallet.outbox;
+
+import java.util.List;
+
+/**
+ * Receives committed outbox events. Every bean implementing this is registered
+ * with the {@link OutboxRelay}.
+ * <p>
+ * Delivery is at least once: a batch is redelivered whole if any handler throws
+ * or the instance stops before the batch is acknowledged, so handlers must
+ * tolerate duplicates, keyed by {@link OutboxMessage#id()}. Events of one
+ * wallet, its {@link OutboxMessage#aggregateId()}, arrive in commit order;
+ * different partitions are dispatched concurrently, so handlers must be
+ * thread-safe.
+ */
+public interface OutboxHandler {
+
+    boolean handles(String eventType);
+
+    /**
+     * Processes a batch, in id order, of the event types this handler accepts.
+     */
+    void handle(List<OutboxMessage> messages) throws Exception;
+}
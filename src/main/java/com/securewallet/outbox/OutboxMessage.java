@@ -0,0 +1,9 @@
+package com.securewallet.outbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox event as handed to {@link OutboxHandler}s; {@code payload} is JSON.
+ */
+public record OutboxMessage(long id, long aggregateId, String eventType, String payload, LocalDateTime createdAt) {
+}
@@ -0,0 +1,253 @@
+package com.securewallet.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers {@code outbox_events} to the registered {@link OutboxHandler}s.
+ * <p>
+ * Events are spread over partitions by wallet. Each worker repeatedly claims
+ * the least recently served partition that has events, locking its
+ * {@code outbox_partitions} row with {@code SKIP LOCKED} so workers on this and
+ * other instances never wait on each other or share a partition. Within that
+ * transaction it reads up to {@code batch-size} events in id order, hands them
+ * to the handlers, deletes them and advances the partition's offset. Any
+ * failure rolls all of it back and the batch is delivered again later.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private static final String SEED_PARTITION = "INSERT INTO outbox_partitions " +
+            "(partition_id, last_event_id, dispatched_count, updated_at, failure_count) " +
+            "SELECT ?, 0, 0, ?, 0 WHERE NOT EXISTS (SELECT 1 FROM outbox_partitions WHERE partition_id = ?)";
+    private static final String CLAIM_PARTITION = "SELECT partition_id FROM outbox_partitions p " +
+            "WHERE (retry_at IS NULL OR retry_at <= ?) " +
+            "AND EXISTS (SELECT 1 FROM outbox_events e WHERE e.partition_id = p.partition_id) " +
+            "ORDER BY updated_at LIMIT 1 FOR UPDATE SKIP LOCKED";
+    private static final String FETCH_EVENTS = "SELECT id, aggregate_id, event_type, payload, created_at " +
+            "FROM outbox_events WHERE partition_id = ? ORDER BY id LIMIT ?";
+    // By id rather than range: a lower id may have committed since the fetch
+    private static final String DELETE_EVENT = "DELETE FROM outbox_events WHERE id = ?";
+    private static final String ADVANCE_PARTITION = "UPDATE outbox_partitions " +
+            "SET last_event_id = ?, dispatched_count = dispatched_count + ?, updated_at = ?, " +
+            "failure_count = 0, retry_at = NULL WHERE partition_id = ?";
+    private static final String DEFER_PARTITION = "UPDATE outbox_partitions " +
+            "SET failure_count = failure_count + 1, updated_at = ?, retry_at = ? WHERE partition_id = ?";
+    private static final String FAILURE_COUNT = "SELECT failure_count FROM outbox_partitions WHERE partition_id = ?";
+    private static final long MAX_RETRY_DELAY_MS = 60_000;
+
+    private final Outbox outbox;
+    private final List<OutboxHandler> handlers;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.outbox.relay-threads:4}")
+    private int relayThreads;
+
+    @Value("${securewallet.outbox.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${securewallet.outbox.poll-interval:200}")
+    private long pollIntervalMs;
+
+    @Value("${securewallet.outbox.retry-delay:1000}")
+    private long retryDelayMs;
+
+    private TransactionTemplate relayTransaction;
+    private ExecutorService workers;
+    private volatile boolean running;
+    private Counter dispatched;
+    private Counter failures;
+    private Timer batchTimer;
+
+    @PostConstruct
+    public void init() {
+        relayTransaction = new TransactionTemplate(transactionManager);
+        dispatched = Counter.builder("securewallet.outbox.dispatched")
+                .description("Outbox events delivered to handlers")
+                .register(meterRegistry);
+        failures = Counter.builder("securewallet.outbox.failures")
+                .description("Outbox batches rolled back for redelivery")
+                .register(meterRegistry);
+        batchTimer = Timer.builder("securewallet.outbox.batch")
+                .description("Time to claim, dispatch and acknowledge one outbox batch")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates any missing partition rows and starts the workers. Partitions are
+     * never removed, so events written under a larger partition count are still
+     * delivered after it is lowered.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int partition = 0; partition < outbox.partitions(); partition++) {
+            try {
+                jdbcTemplate.update(SEED_PARTITION, partition, now, partition);
+            } catch (DuplicateKeyException e) {
+                // Seeded concurrently by another instance
+            }
+        }
+        running = true;
+        AtomicInteger threadNumber = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(relayThreads, runnable ->
+                new Thread(runnable, "outbox-relay-" + threadNumber.incrementAndGet()));
+        for (int i = 0; i < relayThreads; i++) {
+            workers.execute(this::run);
+        }
+        log.info("Outbox relay started with {} workers over {} partitions for {} handlers",
+                relayThreads, outbox.partitions(), handlers.size());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdown();
+            // A batch in flight is rolled back and redelivered if it does not finish
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    private void run() {
+        int[] claimed = new int[1];
+        int claimFailures = 0;
+        while (running) {
+            int count;
+            long sleepMs = pollIntervalMs;
+            claimed[0] = -1;
+            try {
+                count = batchTimer.record(() -> relayTransaction.execute(status -> relayBatch(claimed)));
+                if (claimFailures > 0) {
+                    log.info("Outbox relay recovered after {} failed claims", claimFailures);
+                    claimFailures = 0;
+                }
+            } catch (RuntimeException e) {
+                failures.increment();
+                count = 0;
+                if (claimed[0] >= 0) {
+                    defer(claimed[0], e);
+                } else {
+                    // Typically the database is unreachable; back off rather than poll it
+                    if (claimFailures == 0) {
+                        log.error("Outbox relay could not claim a partition", e);
+                    } else {
+                        log.warn("Outbox relay still cannot claim a partition after {} attempts: {}",
+                                claimFailures + 1, e.toString());
+                    }
+                    sleepMs = Math.min(pollIntervalMs << Math.min(claimFailures, 16), MAX_RETRY_DELAY_MS);
+                    claimFailures++;
+                }
+            }
+            if (count == 0) {
+                try {
+                    Thread.sleep(sleepMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Claims a partition and delivers one batch of it; returns the number of
+     * events delivered, zero when no partition was available. The claimed
+     * partition is left in {@code claimed[0]} for failure handling.
+     */
+    private int relayBatch(int[] claimed) {
+        List<Integer> available = jdbcTemplate.queryForList(CLAIM_PARTITION, Integer.class,
+                Timestamp.valueOf(LocalDateTime.now()));
+        if (available.isEmpty()) {
+            return 0;
+        }
+        int partition = available.get(0);
+        claimed[0] = partition;
+        List<OutboxMessage> batch = jdbcTemplate.query(FETCH_EVENTS, (rs, rowNum) -> new OutboxMessage(
+                rs.getLong("id"),
+                rs.getLong("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toLocalDateTime()), partition, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        for (OutboxHandler handler : handlers) {
+            List<OutboxMessage> accepted = new ArrayList<>(batch.size());
+            for (OutboxMessage message : batch) {
+                if (handler.handles(message.eventType())) {
+                    accepted.add(message);
+                }
+            }
+            if (!accepted.isEmpty()) {
+                try {
+                    handler.handle(accepted);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(handler.getClass().getSimpleName() + " failed", e);
+                }
+            }
+        }
+
+        List<Object[]> ids = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            ids.add(new Object[]{message.id()});
+        }
+        jdbcTemplate.batchUpdate(DELETE_EVENT, ids);
+        jdbcTemplate.update(ADVANCE_PARTITION, batch.get(batch.size() - 1).id(), batch.size(),
+                Timestamp.valueOf(LocalDateTime.now()), partition);
+        dispatched.increment(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Skips a partition whose batch failed for an exponentially growing delay,
+     * so the other partitions keep flowing while it waits for redelivery.
+     */
+    private void defer(int partition, RuntimeException failure) {
+        try {
+            relayTransaction.executeWithoutResult(status -> {
+                Integer failureCount = jdbcTemplate.queryForObject(FAILURE_COUNT, Integer.class, partition);
+                int attempts = failureCount != null ? failureCount : 0;
+                long delayMs = Math.min(retryDelayMs << Math.min(attempts, 16), MAX_RETRY_DELAY_MS);
+                LocalDateTime now = LocalDateTime.now();
+                jdbcTemplate.update(DEFER_PARTITION, Timestamp.valueOf(now),
+                        Timestamp.valueOf(now.plusNanos(delayMs * 1_000_000)), partition);
+                log.error("Outbox batch of partition {} failed (attempt {}), retrying in {} ms",
+                        partition, attempts + 1, delayMs, failure);
+            });
+        } catch (RuntimeException e) {
+            log.error("Outbox batch of partition {} failed and could not be deferred", partition, failure);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.securewallet.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securewallet.logging.LogCategories;
+import com.securewallet.money.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the audit trail of committed money movements from the outbox, so
+ * every committed transaction is recorded, including one whose instance
+ * stopped right after the commit, and a rolled-back one never is. A transfer
+ * is recorded from its debited wallet's row only.
+ * <p>
+ * Entries go to {@code audit_entries} inside the relay's transaction, the one
+ * that deletes the delivered events, so the batch is acknowledged exactly when
+ * its entries are durable. The {@code securewallet.audit} log line written
+ * alongside is a convenience for log search, not the record.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionAuditHandler implements OutboxHandler {
+
+    private static final String INSERT_ENTRY = "INSERT INTO audit_entries (transaction_id, event_id, " +
+            "reference_number, transaction_type, currency, amount, fee, source_wallet_id, destination_wallet_id, " +
+            "completed_at, recorded_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean handles(String eventType) {
+        return TransactionPosting.EVENT_TYPE.equals(eventType);
+    }
+
+    @Override
+    public void handle(List<OutboxMessage> messages) throws IOException {
+        Timestamp recordedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> entries = new ArrayList<>(messages.size());
+        List<OutboxMessage> recorded = new ArrayList<>(messages.size());
+        List<TransactionPosting> postings = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            TransactionPosting posting = objectMapper.readValue(message.payload(), TransactionPosting.class);
+            if (!posting.isFirstRow(message)) {
+                continue;
+            }
+            entries.add(new Object[]{
+                    posting.transactionId(),
+                    message.id(),
+                    posting.referenceNumber(),
+                    posting.type().name(),
+                    posting.currency(),
+                    Money.ofMinor(posting.amount(), posting.currency()).toBigDecimal(),
+                    Money.ofMinor(posting.fee(), posting.currency()).toBigDecimal(),
+                    posting.sourceWalletId(),
+                    posting.destinationWalletId(),
+                    posting.completedAt() != null ? Timestamp.valueOf(posting.completedAt()) : null,
+                    recordedAt});
+            recorded.add(message);
+            postings.add(posting);
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entries);
+
+        for (int i = 0; i < postings.size(); i++) {
+            TransactionPosting posting = postings.get(i);
+            LogCategories.AUDIT.atInfo()
+                    .addKeyValue("eventId", recorded.get(i).id())
+                    .addKeyValue("transactionId", posting.transactionId())
+                    .addKeyValue("reference", posting.referenceNumber())
+                    .addKeyValue("type", posting.type())
+                    .addKeyValue("amount", Money.ofMinor(posting.amount(), posting.currency()).toPlainString())
+                    .addKeyValue("currency", posting.currency())
+                    .addKeyValue("sourceWalletId", posting.sourceWalletId())
+                    .addKeyValue("destinationWalletId", posting.destinationWalletId())
+                    .log("Transaction posted");
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.securewallet.outbox;
+
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.enums.TransactionType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outbox payload for a committed transaction. Amounts are minor units so the
+ * payload round-trips without the currency-less decimal of the API response.
+ */
+public record TransactionPosting(
+        long transactionId,
+        String referenceNumber,
+        TransactionType type,
+        long amount,
+        long fee,
+        String currency,
+        Long sourceWalletId,
+        Long destinationWalletId,
+        LocalDateTime completedAt) {
+
+    public static final String EVENT_TYPE = "TRANSACTION_POSTED";
+
+    public static TransactionPosting from(TransactionResponse transaction) {
+        return new TransactionPosting(
+                transaction.getId(),
+                transaction.getReferenceNumber(),
+                transaction.getType(),
+                transaction.getAmount().getMinorUnits(),
+                transaction.getFee() != null ? transaction.getFee().getMinorUnits() : 0,
+                transaction.getAmount().getCurrency(),
+                transaction.getSourceWalletId(),
+                transaction.getDestinationWalletId(),
+                transaction.getCompletedAt());
+    }
+
+    /**
+     * The wallets this posting moves money in, debited first; each gets its own
+     * outbox row so the posting is delivered in order with that wallet's others.
+     */
+    public List<Long> walletIds() {
+        List<Long> walletIds = new ArrayList<>(2);
+        if (sourceWalletId != null) {
+            walletIds.add(sourceWalletId);
+        }
+        if (destinationWalletId != null) {
+            walletIds.add(destinationWalletId);
+        }
+        return walletIds;
+    }
+
+    /**
+     * Whether this is the row of the posting's first wallet, for handlers that
+     * act once per posting rather than once per wallet.
+     */
+    public boolean isFirstRow(OutboxMessage message) {
+        return message.aggregateId() == walletIds().get(0);
+    }
+}
@@ -4,6 +4,7 @@ import com.securewallet.entity.User;
 import com.securewallet.entity.Wallet;
 import com.securewallet.enums.WalletStatus;
 import com.securewallet.enums.WalletType;
+import com.securewallet.money.Money;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -11,8 +12,9 @@ import java.math.BigDecimal;
 @Component
 public class InvestmentWalletFactory implements WalletFactory {
 
-    private static final BigDecimal MIN_BALANCE = new BigDecimal("1000.00");
-    private static final BigDecimal DAILY_LIMIT = new BigDecimal("500000.00");
+    private static final String CURRENCY = "USD";
+    private static final Money MIN_BALANCE = Money.of("1000.00", CURRENCY);
+    private static final Money DAILY_LIMIT = Money.of("500000.00", CURRENCY);
 
     @Override
     public WalletType getType() {
@@ -25,11 +27,11 @@ public class InvestmentWalletFactory implements WalletFactory {
                 .user(user)
                 .name(name)
                 .walletType(WalletType.INVESTMENT)
-                .balance(BigDecimal.ZERO)
+                .balance(Money.zero(CURRENCY))
                 .minimumBalance(MIN_BALANCE)
                 .interestRate(BigDecimal.ZERO)
                 .dailyTransactionLimit(DAILY_LIMIT)
-                .currency("USD")
+                .currency(CURRENCY)
                 .status(WalletStatus.ACTIVE)
                 .build();
     }
@@ -4,6 +4,7 @@ import com.securewallet.entity.User;
 import com.securewallet.entity.Wallet;
 import com.securewallet.enums.WalletStatus;
 import com.securewallet.enums.WalletType;
+import com.securewallet.money.Money;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -11,9 +12,10 @@ import java.math.BigDecimal;
 @Component
 public class SavingsWalletFactory implements WalletFactory {
 
-    private static final BigDecimal MIN_BALANCE = new BigDecimal("100.00");
+    private static final String CURRENCY = "USD";
+    private static final Money MIN_BALANCE = Money.of("100.00", CURRENCY);
     private static final BigDecimal INTEREST_RATE = new BigDecimal("0.04");
-    private static final BigDecimal DAILY_LIMIT = new BigDecimal("50000.00");
+    private static final Money DAILY_LIMIT = Money.of("50000.00", CURRENCY);
 
     @Override
     public WalletType getType() {
@@ -26,11 +28,11 @@ public class SavingsWalletFactory implements WalletFactory {
                 .user(user)
                 .name(name)
                 .walletType(WalletType.SAVINGS)
-                .balance(BigDecimal.ZERO)
+                .balance(Money.zero(CURRENCY))
                 .minimumBalance(MIN_BALANCE)
                 .interestRate(INTEREST_RATE)
                 .dailyTransactionLimit(DAILY_LIMIT)
-                .currency("USD")
+                .currency(CURRENCY)
                 .status(WalletStatus.ACTIVE)
                 .build();
     }
@@ -0,0 +1,24 @@
+package com.securewallet.repository;
+
+import com.securewallet.entity.ReconciliationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReconciliationCheckpointRepository
+        extends JpaRepository<ReconciliationCheckpoint, ReconciliationCheckpoint.Key> {
+
+    List<ReconciliationCheckpoint> findByRunIdOrderByPartition(Long runId);
+
+    long countByRunIdAndCompletedTrue(Long runId);
+
+    @Query("SELECT COALESCE(SUM(c.walletsChecked), 0) FROM ReconciliationCheckpoint c WHERE c.runId = :runId")
+    long sumWalletsChecked(@Param("runId") Long runId);
+
+    @Query("SELECT COALESCE(SUM(c.discrepancies), 0) FROM ReconciliationCheckpoint c WHERE c.runId = :runId")
+    long sumDiscrepancies(@Param("runId") Long runId);
+}
@@ -2,19 +2,28 @@ package com.securewallet.repository;
 
 import com.securewallet.entity.RefreshToken;
 import com.securewallet.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    // Refreshing builds a principal and a profile from the token's user
+    @EntityGraph(attributePaths = {"user", "user.roles"})
     Optional<RefreshToken> findByToken(String token);
 
     @Modifying
     void deleteByUser(User user);
 
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.user.id = :userId")
+    void deleteByUserId(@Param("userId") Long userId);
+
     @Modifying
     void deleteByToken(String token);
 }
@@ -10,27 +10,35 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
 
-    @Query("SELECT t FROM Transaction t WHERE " +
-            "(t.sourceWallet IS NOT NULL AND t.sourceWallet.user.id = :userId) OR " +
-            "(t.destinationWallet IS NOT NULL AND t.destinationWallet.user.id = :userId) " +
+    // Outer joins: deposits have no source wallet and withdrawals no destination
+    @Query("SELECT t FROM Transaction t " +
+            "LEFT JOIN t.sourceWallet sw LEFT JOIN t.destinationWallet dw WHERE " +
+            "sw.user.id = :userId OR dw.user.id = :userId " +
             "ORDER BY t.createdAt DESC")
     Page<Transaction> findByUserId(@Param("userId") Long userId, Pageable pageable);
 
+    @Query("SELECT t FROM Transaction t " +
+            "LEFT JOIN FETCH t.sourceWallet sw LEFT JOIN FETCH t.destinationWallet dw WHERE " +
+            "sw.user.id = :userId OR dw.user.id = :userId " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Transaction> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
     @Query("SELECT t FROM Transaction t WHERE " +
             "(t.sourceWallet IS NOT NULL AND t.sourceWallet.id = :walletId) OR " +
             "(t.destinationWallet IS NOT NULL AND t.destinationWallet.id = :walletId) " +
             "ORDER BY t.createdAt DESC")
     Page<Transaction> findByWalletId(@Param("walletId") Long walletId, Pageable pageable);
 
-    @Query("SELECT t FROM Transaction t WHERE " +
-            "((t.sourceWallet IS NOT NULL AND t.sourceWallet.user.id = :userId) OR " +
-            "(t.destinationWallet IS NOT NULL AND t.destinationWallet.user.id = :userId)) " +
+    @Query("SELECT t FROM Transaction t " +
+            "LEFT JOIN t.sourceWallet sw LEFT JOIN t.destinationWallet dw WHERE " +
+            "(sw.user.id = :userId OR dw.user.id = :userId) " +
             "AND (:type IS NULL OR t.type = :type) " +
             "AND (:startDate IS NULL OR t.createdAt >= :startDate) " +
             "AND (:endDate IS NULL OR t.createdAt <= :endDate) " +
@@ -42,6 +50,10 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
 
+    @Query("SELECT t FROM Transaction t " +
+            "LEFT JOIN FETCH t.sourceWallet LEFT JOIN FETCH t.destinationWallet WHERE t.id IN :ids")
+    List<Transaction> findWithWalletsByIdIn(@Param("ids") Collection<Long> ids);
+
     Optional<Transaction> findByReferenceNumber(String referenceNumber);
 
     @Query("SELECT t FROM Transaction t WHERE " +
@@ -49,4 +61,20 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             "(t.destinationWallet IS NOT NULL AND t.destinationWallet.id = :walletId) " +
             "ORDER BY t.createdAt DESC")
     List<Transaction> findTop10ByWalletId(@Param("walletId") Long walletId, Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM Transaction t WHERE " +
+            "t.sourceWallet.id = :walletId OR t.destinationWallet.id = :walletId")
+    long countByWalletId(@Param("walletId") Long walletId);
+
+    @Query("SELECT t.version AS version, t.sourceWallet.id AS sourceWalletId, " +
+            "t.destinationWallet.id AS destinationWalletId FROM Transaction t WHERE t.id = :id")
+    Optional<TransactionVersion> findVersionById(@Param("id") Long id);
+
+    interface TransactionVersion {
+        Long getVersion();
+
+        Long getSourceWalletId();
+
+        Long getDestinationWalletId();
+    }
 }
@@ -0,0 +1,15 @@
+package com.securewallet.repository;
+
+import com.securewallet.entity.WalletDailyAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface WalletDailyAggregateRepository
+        extends JpaRepository<WalletDailyAggregate, WalletDailyAggregate.Key> {
+
+    List<WalletDailyAggregate> findByWalletIdAndDayBetweenOrderByDay(Long walletId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,30 @@
+package com.securewallet.repository;
+
+import com.securewallet.entity.WalletPeriodAggregate;
+import com.securewallet.enums.AggregatePeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface WalletPeriodAggregateRepository
+        extends JpaRepository<WalletPeriodAggregate, WalletPeriodAggregate.Key> {
+
+    List<WalletPeriodAggregate> findByWalletIdInAndPeriodAndPeriodStartBetween(
+            Collection<Long> walletIds, AggregatePeriod period, LocalDate from, LocalDate to);
+
+    /**
+     * When the wallets' rollups last changed. Every flush touches the year row of
+     * each wallet it writes, so the few year rows stand in for all periods.
+     */
+    @Query("SELECT MAX(a.updatedAt) FROM WalletPeriodAggregate a " +
+            "WHERE a.walletId IN :walletIds AND a.period = com.securewallet.enums.AggregatePeriod.YEAR")
+    Optional<LocalDateTime> findLastUpdate(@Param("walletIds") Collection<Long> walletIds);
+}
@@ -2,6 +2,7 @@ package com.securewallet.repository;
 
 import com.securewallet.entity.Wallet;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -22,4 +23,22 @@ public interface WalletRepository extends JpaRepository<Wallet, Long> {
     Optional<Wallet> findByWalletNumber(String walletNumber);
 
     boolean existsByWalletNumber(String walletNumber);
+
+    @Query("SELECT w.id AS walletId, w.user.id AS userId FROM Wallet w WHERE w.id > :afterId ORDER BY w.id")
+    List<WalletOwnership> findOwnershipAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT w.version AS version, w.user.id AS userId FROM Wallet w WHERE w.id = :id")
+    Optional<WalletVersion> findVersionById(@Param("id") Long id);
+
+    interface WalletOwnership {
+        Long getWalletId();
+
+        Long getUserId();
+    }
+
+    interface WalletVersion {
+        Long getVersion();
+
+        Long getUserId();
+    }
 }
@@ -0,0 +1,22 @@
+package com.securewallet.search;
+
+import com.securewallet.enums.TransactionType;
+
+import java.time.LocalDate;
+
+/**
+ * Type and creation-day restriction applied to matching documents, with days as
+ * epoch days and {@code type} as a {@link TransactionType} ordinal or -1 for any.
+ */
+record DocFilter(int type, long fromDay, long toDay) {
+
+    static DocFilter of(TransactionType type, LocalDate from, LocalDate to) {
+        return new DocFilter(type != null ? type.ordinal() : -1,
+                from != null ? from.toEpochDay() : Long.MIN_VALUE,
+                to != null ? to.toEpochDay() : Long.MAX_VALUE);
+    }
+
+    boolean accepts(int docType, int day) {
+        return (type < 0 || type == docType) && day >= fromDay && day <= toDay;
+    }
+}
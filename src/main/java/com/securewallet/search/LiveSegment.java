@@ -0,0 +1,123 @@
+package com.securewallet.search;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * In-memory segment receiving documents as transactions commit, until it is
+ * frozen and written out as a {@link MappedSegment}. Each user's documents and
+ * postings are primitive arrays guarded by that user's monitor.
+ */
+final class LiveSegment {
+
+    private final ConcurrentHashMap<Long, User> users = new ConcurrentHashMap<>();
+    private final AtomicInteger docCount = new AtomicInteger();
+    private final AtomicLong maxTransactionId = new AtomicLong();
+
+    void add(long userId, long transactionId, int day, int type, List<String> terms) {
+        users.computeIfAbsent(userId, k -> new User()).add(transactionId, day, type, terms);
+        docCount.incrementAndGet();
+        maxTransactionId.accumulateAndGet(transactionId, Math::max);
+    }
+
+    SearchableDocs user(long userId) {
+        return users.get(userId);
+    }
+
+    int docCount() {
+        return docCount.get();
+    }
+
+    long maxTransactionId() {
+        return maxTransactionId.get();
+    }
+
+    /**
+     * Writes every user, in id order; only called once the segment is frozen.
+     */
+    void writeTo(SegmentWriter writer) throws IOException {
+        Long[] userIds = users.keySet().toArray(new Long[0]);
+        Arrays.sort(userIds);
+        for (Long userId : userIds) {
+            writer.addUser(userId, users.get(userId).toUserData());
+        }
+    }
+
+    private static final class User implements SearchableDocs {
+        private long[] ids = new long[8];
+        private int[] days = new int[8];
+        private byte[] types = new byte[8];
+        private int size;
+        private final TreeMap<String, Postings> terms = new TreeMap<>();
+
+        synchronized void add(long transactionId, int day, int type, List<String> docTerms) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                days = Arrays.copyOf(days, size * 2);
+                types = Arrays.copyOf(types, size * 2);
+            }
+            int ordinal = size++;
+            ids[ordinal] = transactionId;
+            days[ordinal] = day;
+            types[ordinal] = (byte) type;
+            for (String term : docTerms) {
+                terms.computeIfAbsent(term, k -> new Postings()).add(ordinal);
+            }
+        }
+
+        @Override
+        public synchronized void match(List<String> prefixes, DocFilter filter, LongConsumer ids) {
+            SearchableDocs.super.match(prefixes, filter, ids);
+        }
+
+        @Override
+        public synchronized int docCount() {
+            return size;
+        }
+
+        @Override
+        public synchronized long id(int ordinal) {
+            return ids[ordinal];
+        }
+
+        @Override
+        public synchronized int day(int ordinal) {
+            return days[ordinal];
+        }
+
+        @Override
+        public synchronized int type(int ordinal) {
+            return types[ordinal];
+        }
+
+        @Override
+        public synchronized void collectPrefix(String prefix, BitSet ordinals) {
+            for (Map.Entry<String, Postings> entry : terms.tailMap(prefix, true).entrySet()) {
+                if (!entry.getKey().startsWith(prefix)) {
+                    break;
+                }
+                Postings postings = entry.getValue();
+                for (int i = 0; i < postings.count(); i++) {
+                    ordinals.set(postings.ordinals()[i]);
+                }
+            }
+        }
+
+        synchronized SegmentWriter.UserData toUserData() {
+            List<SegmentWriter.Term> written = new ArrayList<>(terms.size());
+            terms.forEach((term, postings) -> written.add(new SegmentWriter.Term(
+                    term.getBytes(StandardCharsets.UTF_8), postings.ordinals(), postings.count())));
+            return new SegmentWriter.UserData(size, ids, days, types, written);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.securewallet.search;
+
+import com.securewallet.enums.TransactionType;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * Read-only view of a segment file written by {@link SegmentWriter}, mapped into
+ * memory so lookups touch only the pages they need and the index costs no heap
+ * beyond this object. All reads use absolute positions, so one instance serves
+ * concurrent queries. The mapping is released when the object is collected;
+ * on POSIX systems the file can be deleted while still mapped.
+ */
+final class MappedSegment {
+
+    private final Path path;
+    private final long minGeneration;
+    private final long maxGeneration;
+    private final MappedByteBuffer buffer;
+    private final long maxTransactionId;
+    private final int directoryOffset;
+    private final int userCount;
+    // Stored type code to current TransactionType ordinal, -1 for types that no longer exist
+    private final int[] typeOrdinals;
+
+    private MappedSegment(Path path, long minGeneration, long maxGeneration, MappedByteBuffer buffer)
+            throws IOException {
+        this.path = path;
+        this.minGeneration = minGeneration;
+        this.maxGeneration = maxGeneration;
+        this.buffer = buffer;
+        if (buffer.capacity() < SegmentWriter.HEADER_BYTES || buffer.getInt(0) != SegmentWriter.MAGIC) {
+            throw new IOException("Not a search segment: " + path);
+        }
+        if (buffer.getInt(4) != SegmentWriter.VERSION) {
+            throw new IOException("Unsupported search segment version " + buffer.getInt(4) + ": " + path);
+        }
+        this.maxTransactionId = buffer.getLong(8);
+        this.directoryOffset = (int) buffer.getLong(16);
+        this.userCount = buffer.getInt(24);
+        this.typeOrdinals = readTypes(directoryOffset + userCount * SegmentWriter.DIRECTORY_ENTRY_BYTES);
+    }
+
+    static MappedSegment open(Path path, long minGeneration, long maxGeneration) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            try {
+                return new MappedSegment(path, minGeneration, maxGeneration, buffer);
+            } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+                throw new IOException("Truncated search segment: " + path, e);
+            }
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long minGeneration() {
+        return minGeneration;
+    }
+
+    long maxGeneration() {
+        return maxGeneration;
+    }
+
+    long maxTransactionId() {
+        return maxTransactionId;
+    }
+
+    long sizeBytes() {
+        return buffer.capacity();
+    }
+
+    int userCount() {
+        return userCount;
+    }
+
+    long userIdAt(int index) {
+        return buffer.getLong(directoryOffset + index * SegmentWriter.DIRECTORY_ENTRY_BYTES);
+    }
+
+    UserView userAt(int index) {
+        return new UserView((int) buffer.getLong(directoryOffset + index * SegmentWriter.DIRECTORY_ENTRY_BYTES + 8));
+    }
+
+    /**
+     * The user's documents, or {@code null} when the segment has none.
+     */
+    UserView user(long userId) {
+        int low = 0;
+        int high = userCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = userIdAt(mid);
+            if (midId < userId) {
+                low = mid + 1;
+            } else if (midId > userId) {
+                high = mid - 1;
+            } else {
+                return userAt(mid);
+            }
+        }
+        return null;
+    }
+
+    private int[] readTypes(int offset) {
+        ByteBuffer types = buffer.duplicate().position(offset);
+        int count = types.getInt();
+        int[] ordinals = new int[count];
+        for (int code = 0; code < count; code++) {
+            byte[] name = new byte[types.getShort() & 0xFFFF];
+            types.get(name);
+            ordinals[code] = ordinalOf(new String(name, StandardCharsets.UTF_8));
+        }
+        return ordinals;
+    }
+
+    private static int ordinalOf(String name) {
+        try {
+            return TransactionType.valueOf(name).ordinal();
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Receives each term of a user with its decoded postings; the arrays are
+     * reused between calls.
+     */
+    interface TermVisitor {
+        void visit(byte[] term, int[] ordinals, int count);
+    }
+
+    final class UserView implements SearchableDocs {
+        private final int docCount;
+        private final int termCount;
+        private final int idsAt;
+        private final int daysAt;
+        private final int typesAt;
+        private final int termsAt;
+
+        private UserView(int offset) {
+            docCount = buffer.getInt(offset);
+            termCount = buffer.getInt(offset + 4);
+            idsAt = offset + 8;
+            daysAt = idsAt + docCount * 8;
+            typesAt = daysAt + docCount * 4;
+            termsAt = typesAt + docCount;
+        }
+
+        @Override
+        public int docCount() {
+            return docCount;
+        }
+
+        @Override
+        public long id(int ordinal) {
+            return buffer.getLong(idsAt + ordinal * 8);
+        }
+
+        @Override
+        public int day(int ordinal) {
+            return buffer.getInt(daysAt + ordinal * 4);
+        }
+
+        @Override
+        public int type(int ordinal) {
+            int code = buffer.get(typesAt + ordinal) & 0xFF;
+            return code < typeOrdinals.length ? typeOrdinals[code] : -1;
+        }
+
+        @Override
+        public void collectPrefix(String prefix, BitSet ordinals) {
+            byte[] bytes = prefix.getBytes(StandardCharsets.UTF_8);
+            int[] decoded = null;
+            for (int entry = lowerBound(bytes); entry < termCount && startsWith(entry, bytes); entry++) {
+                if (decoded == null) {
+                    decoded = new int[docCount];
+                }
+                int count = decode(entry, decoded);
+                for (int i = 0; i < count; i++) {
+                    ordinals.set(decoded[i]);
+                }
+            }
+        }
+
+        void forEachTerm(TermVisitor visitor) {
+            int[] decoded = new int[docCount];
+            for (int entry = 0; entry < termCount; entry++) {
+                byte[] term = new byte[buffer.getInt(entryAt(entry) + 4)];
+                buffer.get(buffer.getInt(entryAt(entry)), term);
+                visitor.visit(term, decoded, decode(entry, decoded));
+            }
+        }
+
+        /** Decodes the entry's ordinals into {@code into} and returns how many there are. */
+        private int decode(int entry, int[] into) {
+            int at = buffer.getInt(entryAt(entry) + 8);
+            int count = buffer.getInt(entryAt(entry) + 12);
+            int ordinal = 0;
+            for (int i = 0; i < count; i++) {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = buffer.get(at++);
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                ordinal += gap;
+                into[i] = ordinal;
+            }
+            return count;
+        }
+
+        private int entryAt(int entry) {
+            return termsAt + entry * SegmentWriter.TERM_ENTRY_BYTES;
+        }
+
+        /** First term entry not less than {@code bytes}. */
+        private int lowerBound(byte[] bytes) {
+            int low = 0;
+            int high = termCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (compare(mid, bytes) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private int compare(int entry, byte[] bytes) {
+            int at = buffer.getInt(entryAt(entry));
+            int length = buffer.getInt(entryAt(entry) + 4);
+            int common = Math.min(length, bytes.length);
+            for (int i = 0; i < common; i++) {
+                int diff = (buffer.get(at + i) & 0xFF) - (bytes[i] & 0xFF);
+                if (diff != 0) {
+                    return diff;
+                }
+            }
+            return length - bytes.length;
+        }
+
+        private boolean startsWith(int entry, byte[] bytes) {
+            int at = buffer.getInt(entryAt(entry));
+            if (buffer.getInt(entryAt(entry) + 4) < bytes.length) {
+                return false;
+            }
+            for (int i = 0; i < bytes.length; i++) {
+                if (buffer.get(at + i) != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
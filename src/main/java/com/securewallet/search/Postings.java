@@ -0,0 +1,27 @@
+package com.securewallet.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of ascending document ordinals for one term.
+ */
+final class Postings {
+
+    private int[] ordinals = new int[4];
+    private int count;
+
+    void add(int ordinal) {
+        if (count == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, count * 2);
+        }
+        ordinals[count++] = ordinal;
+    }
+
+    int[] ordinals() {
+        return ordinals;
+    }
+
+    int count() {
+        return count;
+    }
+}
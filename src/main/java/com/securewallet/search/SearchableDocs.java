@@ -0,0 +1,53 @@
+package com.securewallet.search;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * One user's documents within a segment. Documents are addressed by ordinal,
+ * dense from zero in the order they were added.
+ */
+interface SearchableDocs {
+
+    int docCount();
+
+    long id(int ordinal);
+
+    int day(int ordinal);
+
+    int type(int ordinal);
+
+    /**
+     * Sets the ordinal of every document holding a term that starts with
+     * {@code prefix}.
+     */
+    void collectPrefix(String prefix, BitSet ordinals);
+
+    /**
+     * Passes the id of every document matching all prefixes and the filter.
+     */
+    default void match(List<String> prefixes, DocFilter filter, LongConsumer ids) {
+        BitSet matches = null;
+        for (String prefix : prefixes) {
+            BitSet termMatches = new BitSet(docCount());
+            collectPrefix(prefix, termMatches);
+            if (matches == null) {
+                matches = termMatches;
+            } else {
+                matches.and(termMatches);
+            }
+            if (matches.isEmpty()) {
+                return;
+            }
+        }
+        if (matches == null) {
+            return;
+        }
+        for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+            if (filter.accepts(type(ordinal), day(ordinal))) {
+                ids.accept(id(ordinal));
+            }
+        }
+    }
+}
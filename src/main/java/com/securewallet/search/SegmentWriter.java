@@ -0,0 +1,170 @@
+package com.securewallet.search;
+
+import com.securewallet.enums.TransactionType;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Streams users, in ascending id order, into a segment file.
+ *
+ * <pre>
+ * header     int magic, int version, long maxTransactionId, long directoryOffset, int userCount
+ * per user   int docCount, int termCount,
+ *            long[docCount] ids, int[docCount] epoch days, byte[docCount] type codes,
+ *            termCount x (int termOffset, int termLength, int postingsOffset, int postingCount),
+ *            term bytes (UTF-8, sorted unsigned), postings (varint ordinal gaps)
+ * directory  userCount x (long userId, long userOffset)
+ * types      int count, count x UTF type name, indexed by type code
+ * </pre>
+ *
+ * Offsets are absolute, which caps a segment at 2 GB, the most a single mapping
+ * can cover anyway.
+ */
+final class SegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x53575358;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int TERM_ENTRY_BYTES = 16;
+    static final int DIRECTORY_ENTRY_BYTES = 16;
+
+    static final Comparator<byte[]> TERM_ORDER = Arrays::compareUnsigned;
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private final List<long[]> directory = new ArrayList<>();
+    private long position;
+    private long lastUserId = Long.MIN_VALUE;
+
+    /**
+     * A user's documents and terms; {@code ordinals} of each term are ascending.
+     */
+    record UserData(int docCount, long[] ids, int[] days, byte[] types, List<Term> terms) {
+    }
+
+    record Term(byte[] bytes, int[] ordinals, int count) {
+    }
+
+    SegmentWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+        out.write(new byte[HEADER_BYTES]);
+        position = HEADER_BYTES;
+    }
+
+    void addUser(long userId, UserData user) throws IOException {
+        if (userId <= lastUserId) {
+            throw new IllegalArgumentException("Users must be added in ascending id order");
+        }
+        lastUserId = userId;
+        directory.add(new long[]{userId, position});
+
+        List<Term> terms = new ArrayList<>(user.terms());
+        terms.sort(Comparator.comparing(Term::bytes, TERM_ORDER));
+        int termCount = terms.size();
+        long termBytesStart = position + 8 + (long) user.docCount() * 13 + (long) termCount * TERM_ENTRY_BYTES;
+        long termBytesLength = 0;
+        for (Term term : terms) {
+            termBytesLength += term.bytes().length;
+        }
+        long postingsStart = termBytesStart + termBytesLength;
+
+        ByteArrayOutputStream postings = new ByteArrayOutputStream();
+        int[] postingOffsets = new int[termCount];
+        for (int i = 0; i < termCount; i++) {
+            postingOffsets[i] = postings.size();
+            encode(terms.get(i), postings);
+        }
+        checkOffset(postingsStart + postings.size());
+
+        out.writeInt(user.docCount());
+        out.writeInt(termCount);
+        for (int i = 0; i < user.docCount(); i++) {
+            out.writeLong(user.ids()[i]);
+        }
+        for (int i = 0; i < user.docCount(); i++) {
+            out.writeInt(user.days()[i]);
+        }
+        out.write(user.types(), 0, user.docCount());
+        long termOffset = termBytesStart;
+        for (int i = 0; i < termCount; i++) {
+            Term term = terms.get(i);
+            out.writeInt((int) termOffset);
+            out.writeInt(term.bytes().length);
+            out.writeInt((int) (postingsStart + postingOffsets[i]));
+            out.writeInt(term.count());
+            termOffset += term.bytes().length;
+        }
+        for (Term term : terms) {
+            out.write(term.bytes());
+        }
+        postings.writeTo(out);
+        position = postingsStart + postings.size();
+    }
+
+    /**
+     * Writes the directory and header and forces the file to disk.
+     */
+    void finish(long maxTransactionId) throws IOException {
+        long directoryOffset = position;
+        for (long[] entry : directory) {
+            out.writeLong(entry[0]);
+            out.writeLong(entry[1]);
+        }
+        TransactionType[] types = TransactionType.values();
+        out.writeInt(types.length);
+        for (TransactionType type : types) {
+            out.writeUTF(type.name());
+        }
+        out.flush();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putLong(maxTransactionId)
+                .putLong(directoryOffset)
+                .putInt(directory.size());
+        header.flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static void encode(Term term, ByteArrayOutputStream postings) {
+        int previous = 0;
+        for (int i = 0; i < term.count(); i++) {
+            int gap = term.ordinals()[i] - previous;
+            previous = term.ordinals()[i];
+            while ((gap & ~0x7F) != 0) {
+                postings.write((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            postings.write(gap);
+        }
+    }
+
+    private static void checkOffset(long offset) throws IOException {
+        if (offset > Integer.MAX_VALUE) {
+            throw new IOException("Search segment would exceed 2 GB");
+        }
+    }
+}
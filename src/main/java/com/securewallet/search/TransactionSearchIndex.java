@@ -0,0 +1,649 @@
+package com.securewallet.search;
+
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.enums.TransactionType;
+import com.securewallet.repository.WalletRepository;
+import com.securewallet.security.WalletOwnershipIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Per-user inverted index over transaction descriptions and reference numbers.
+ * Committed transactions go into an in-memory {@link LiveSegment}, which is
+ * written to a segment file every flush interval and memory-mapped; small
+ * segments are merged into larger ones so a query touches a handful of files.
+ * Every document also carries its type and creation day, so filtered searches
+ * are answered without touching the database.
+ * <p>
+ * Each instance indexes the transactions it posts as they commit, and tails the
+ * {@code transactions} table for everything else, including postings made on
+ * other instances. The tail keeps a cursor below which every committed row has
+ * been indexed; it is saved with the segments, so a restart resumes from it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionSearchIndex {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("segment-(\\d+)-(\\d+)\\.seg");
+    private static final String CURSOR_FILE = "cursor";
+    private static final String CATCH_UP_SQL = "SELECT t.id, t.description, t.reference_number, " +
+            "t.transaction_type, t.created_at, sw.user_id, dw.user_id FROM transactions t " +
+            "LEFT JOIN wallets sw ON sw.id = t.source_wallet_id " +
+            "LEFT JOIN wallets dw ON dw.id = t.destination_wallet_id " +
+            "WHERE t.id > ? ORDER BY t.id LIMIT ?";
+    private static final int CATCH_UP_BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final WalletOwnershipIndex ownershipIndex;
+    private final WalletRepository walletRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.search.directory:data/search-index}")
+    private Path directory;
+
+    @Value("${securewallet.search.max-segments:10}")
+    private int maxSegments;
+
+    @Value("${securewallet.search.max-segment-size:512MB}")
+    private DataSize maxSegmentSize;
+
+    @Value("${securewallet.search.max-live-documents:100000}")
+    private int maxLiveDocuments;
+
+    @Value("${securewallet.search.commit-settle:10s}")
+    private Duration commitSettle;
+
+    // Writers share the read lock so a flush can freeze the live segment under none of them
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ReentrantLock tailLock = new ReentrantLock();
+    private volatile State state = new State(List.of(), List.of(), new LiveSegment());
+    private long nextGeneration = 1;
+
+    // Every committed transaction up to here is indexed; moved under the read lock
+    // so a flush saves a cursor matching the documents it writes
+    private volatile long cursor;
+    // Ids above the cursor already indexed, so the tail does not add them again
+    private final ConcurrentSkipListSet<Long> indexedAboveCursor = new ConcurrentSkipListSet<>();
+    private volatile boolean caughtUp;
+
+    private Timer flushTimer;
+    private Timer mergeTimer;
+
+    /**
+     * Everything a query reads: mapped segments oldest first, frozen live segments
+     * not yet written, and the segment receiving new documents.
+     */
+    private record State(List<MappedSegment> segments, List<LiveSegment> frozen, LiveSegment live) {
+    }
+
+    private record CatchUpRow(long id, String description, String referenceNumber, TransactionType type,
+                              LocalDateTime createdAt, long sourceOwner, long destinationOwner) {
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(directory);
+        List<MappedSegment> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                Matcher name = SEGMENT_NAME.matcher(file.getFileName().toString());
+                if (!name.matches()) {
+                    if (file.getFileName().toString().endsWith(".tmp")) {
+                        Files.delete(file);
+                    }
+                    continue;
+                }
+                try {
+                    segments.add(MappedSegment.open(file,
+                            Long.parseLong(name.group(1)), Long.parseLong(name.group(2))));
+                } catch (IOException e) {
+                    log.warn("Discarding unreadable search segment {}: {}", file, e.getMessage());
+                    Files.delete(file);
+                }
+            }
+        }
+        segments = dropSuperseded(segments);
+        for (MappedSegment segment : segments) {
+            nextGeneration = Math.max(nextGeneration, segment.maxGeneration() + 1);
+        }
+        state = new State(List.copyOf(segments), List.of(), state.live());
+        cursor = readCursor();
+
+        flushTimer = Timer.builder("securewallet.search.flush")
+                .description("Time to write the live search segment to disk")
+                .register(meterRegistry);
+        mergeTimer = Timer.builder("securewallet.search.merge")
+                .description("Time to merge search segments")
+                .register(meterRegistry);
+        Gauge.builder("securewallet.search.segments", this, index -> index.state.segments().size())
+                .description("Memory-mapped search segments")
+                .register(meterRegistry);
+        Gauge.builder("securewallet.search.segments.bytes", this,
+                        index -> index.state.segments().stream().mapToLong(MappedSegment::sizeBytes).sum())
+                .description("Size of the memory-mapped search segments")
+                .register(meterRegistry);
+        Gauge.builder("securewallet.search.live.documents", this, index -> index.state.live().docCount())
+                .description("Documents in the in-memory search segment")
+                .register(meterRegistry);
+        log.info("Mapped {} search segments from {}", segments.size(), directory.toAbsolutePath());
+    }
+
+    /**
+     * Indexes everything committed since the saved cursor before the periodic tail
+     * takes over. Segments without a cursor, or claiming ids the database does not
+     * have, are discarded and the index is rebuilt from scratch.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        long start = System.nanoTime();
+        Long newestTransaction = jdbcTemplate.queryForObject("SELECT MAX(id) FROM transactions", Long.class);
+        long databaseMax = newestTransaction != null ? newestTransaction : 0L;
+        long indexedMax = cursor;
+        for (MappedSegment segment : state.segments()) {
+            indexedMax = Math.max(indexedMax, segment.maxTransactionId());
+        }
+        if (indexedMax > databaseMax) {
+            log.warn("Search index reaches transaction {} but the database ends at {}; rebuilding",
+                    indexedMax, databaseMax);
+            discardSegments();
+        } else if (cursor == 0 && !state.segments().isEmpty()) {
+            log.warn("Search segments have no saved cursor; rebuilding");
+            discardSegments();
+        }
+
+        tailLock.lock();
+        try {
+            long indexed = tailTransactions();
+            caughtUp = true;
+            log.info("Search index caught up: {} transactions indexed in {} ms",
+                    indexed, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    /**
+     * Picks up transactions committed since the last poll, wherever they were posted.
+     */
+    @Scheduled(fixedDelayString = "${securewallet.search.tail-interval:5000}")
+    public void tail() {
+        if (!caughtUp || !tailLock.tryLock()) {
+            return;
+        }
+        try {
+            tailTransactions();
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    /**
+     * Indexes the transactions above the cursor that are not indexed yet. The
+     * cursor only moves past rows older than {@code commit-settle}: an id is
+     * assigned before its transaction commits, so a lower id can still appear
+     * after higher ones have been read, and it is found on a later pass.
+     */
+    private long tailTransactions() {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(commitSettle);
+        long lastId = cursor;
+        boolean settled = true;
+        long indexed = 0;
+        int batchSize;
+        do {
+            List<CatchUpRow> batch = jdbcTemplate.query(CATCH_UP_SQL, (rs, rowNum) -> {
+                Timestamp createdAt = rs.getTimestamp(5);
+                return new CatchUpRow(rs.getLong(1), rs.getString(2), rs.getString(3),
+                        TransactionType.valueOf(rs.getString(4)),
+                        createdAt != null ? createdAt.toLocalDateTime() : null,
+                        rs.getLong(6), rs.getLong(7));
+            }, lastId, CATCH_UP_BATCH_SIZE);
+            swapLock.readLock().lock();
+            try {
+                for (CatchUpRow row : batch) {
+                    // A missing wallet reads as user id 0, which is NO_OWNER
+                    if (indexedAboveCursor.add(row.id())) {
+                        add(row.id(), row.description(), row.referenceNumber(), row.type(), row.createdAt(),
+                                row.sourceOwner(), row.destinationOwner());
+                        indexed++;
+                    }
+                    settled = settled && row.createdAt() != null && row.createdAt().isBefore(settledBefore);
+                    if (settled) {
+                        cursor = row.id();
+                    }
+                    lastId = row.id();
+                }
+                indexedAboveCursor.headSet(cursor, true).clear();
+            } finally {
+                swapLock.readLock().unlock();
+            }
+            batchSize = batch.size();
+            if (state.live().docCount() >= maxLiveDocuments) {
+                flush();
+            }
+        } while (batchSize == CATCH_UP_BATCH_SIZE);
+        return indexed;
+    }
+
+    /**
+     * Indexes a committed transaction for the owners of both of its wallets,
+     * unless the tail got to it first.
+     */
+    public void record(TransactionResponse transaction) {
+        long sourceOwner = owner(transaction.getSourceWalletId());
+        long destinationOwner = owner(transaction.getDestinationWalletId());
+        swapLock.readLock().lock();
+        try {
+            // At or below the cursor the tail has indexed it already
+            if (transaction.getId() > cursor && indexedAboveCursor.add(transaction.getId())) {
+                add(transaction.getId(), transaction.getDescription(), transaction.getReferenceNumber(),
+                        transaction.getType(), transaction.getCreatedAt(), sourceOwner, destinationOwner);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the user's transactions holding, for every prefix, a term starting
+     * with it, restricted to the type and creation days given; newest first.
+     */
+    public long[] search(long userId, List<String> prefixes, TransactionType type, LocalDate from, LocalDate to) {
+        DocFilter filter = DocFilter.of(type, from, to);
+        IdBuffer ids = new IdBuffer();
+        State current = state;
+        for (MappedSegment segment : current.segments()) {
+            SearchableDocs docs = segment.user(userId);
+            if (docs != null) {
+                docs.match(prefixes, filter, ids);
+            }
+        }
+        for (LiveSegment frozen : current.frozen()) {
+            match(frozen, userId, prefixes, filter, ids);
+        }
+        match(current.live(), userId, prefixes, filter, ids);
+        return ids.newestFirst();
+    }
+
+    @Scheduled(fixedDelayString = "${securewallet.search.flush-interval:30000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            long frozenCursor;
+            swapLock.writeLock().lock();
+            try {
+                State current = state;
+                if (current.live().docCount() > 0) {
+                    List<LiveSegment> frozen = new ArrayList<>(current.frozen());
+                    frozen.add(current.live());
+                    state = new State(current.segments(), List.copyOf(frozen), new LiveSegment());
+                }
+                frozenCursor = cursor;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            writeFrozen();
+            // Everything below the cursor is on disk once no frozen segment is left
+            if (state.frozen().isEmpty()) {
+                writeCursor(frozenCursor);
+            }
+            merge();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void add(long transactionId, String description, String referenceNumber, TransactionType type,
+                     LocalDateTime createdAt, long sourceOwner, long destinationOwner) {
+        List<String> terms = SearchTokenizer.tokenize(
+                (description != null ? description : "") + ' ' + (referenceNumber != null ? referenceNumber : ""));
+        if (terms.isEmpty()) {
+            return;
+        }
+        int day = (int) (createdAt != null ? createdAt.toLocalDate() : LocalDate.now()).toEpochDay();
+        LiveSegment live = state.live();
+        if (sourceOwner != WalletOwnershipIndex.NO_OWNER) {
+            live.add(sourceOwner, transactionId, day, type.ordinal(), terms);
+        }
+        if (destinationOwner != WalletOwnershipIndex.NO_OWNER && destinationOwner != sourceOwner) {
+            live.add(destinationOwner, transactionId, day, type.ordinal(), terms);
+        }
+    }
+
+    private long owner(Long walletId) {
+        if (walletId == null) {
+            return WalletOwnershipIndex.NO_OWNER;
+        }
+        long owner = ownershipIndex.ownerOf(walletId);
+        if (owner == WalletOwnershipIndex.NO_OWNER) {
+            owner = walletRepository.findVersionById(walletId)
+                    .map(WalletRepository.WalletVersion::getUserId)
+                    .orElse(WalletOwnershipIndex.NO_OWNER);
+        }
+        return owner;
+    }
+
+    private static void match(LiveSegment segment, long userId, List<String> prefixes, DocFilter filter,
+                              IdBuffer ids) {
+        SearchableDocs docs = segment.user(userId);
+        if (docs != null) {
+            docs.match(prefixes, filter, ids);
+        }
+    }
+
+    /**
+     * Writes frozen live segments oldest first; one that fails stays frozen, still
+     * searchable, and is retried on the next flush.
+     */
+    private void writeFrozen() {
+        for (LiveSegment frozen : state.frozen()) {
+            long start = System.nanoTime();
+            long generation = nextGeneration;
+            MappedSegment segment;
+            try {
+                segment = writeSegment(generation, generation, frozen.maxTransactionId(), frozen::writeTo);
+            } catch (IOException e) {
+                log.warn("Failed to write search segment, will retry: {}", e.getMessage());
+                return;
+            } finally {
+                flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            nextGeneration++;
+            State current = state;
+            List<MappedSegment> segments = new ArrayList<>(current.segments());
+            segments.add(segment);
+            List<LiveSegment> remaining = new ArrayList<>(current.frozen());
+            remaining.remove(frozen);
+            state = new State(List.copyOf(segments), List.copyOf(remaining), current.live());
+            log.debug("Wrote search segment {} with {} documents", segment.path().getFileName(), frozen.docCount());
+        }
+    }
+
+    /**
+     * Keeps the segment count bounded by merging the newest run of segments, none
+     * of which is larger than the newer ones together, so every document is
+     * rewritten a logarithmic number of times.
+     */
+    private void merge() {
+        List<MappedSegment> segments = state.segments();
+        if (segments.size() <= maxSegments) {
+            return;
+        }
+        int from = segments.size() - 1;
+        long runBytes = segments.get(from).sizeBytes();
+        while (from > 0) {
+            long older = segments.get(from - 1).sizeBytes();
+            boolean runReady = segments.size() - from >= 2;
+            if ((runReady && older > runBytes) || runBytes + older > maxSegmentSize.toBytes()) {
+                break;
+            }
+            from--;
+            runBytes += older;
+        }
+        List<MappedSegment> run = segments.subList(from, segments.size());
+        if (run.size() < 2) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long maxTransactionId = 0L;
+        for (MappedSegment segment : run) {
+            maxTransactionId = Math.max(maxTransactionId, segment.maxTransactionId());
+        }
+        MappedSegment merged;
+        try {
+            merged = writeSegment(run.get(0).minGeneration(), run.get(run.size() - 1).maxGeneration(),
+                    maxTransactionId, writer -> writeMerged(run, writer));
+        } catch (IOException e) {
+            log.warn("Failed to merge {} search segments: {}", run.size(), e.getMessage());
+            return;
+        } finally {
+            mergeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        List<MappedSegment> remaining = new ArrayList<>(segments.subList(0, from));
+        remaining.add(merged);
+        State current = state;
+        state = new State(List.copyOf(remaining), current.frozen(), current.live());
+        for (MappedSegment segment : run) {
+            deleteQuietly(segment.path());
+        }
+        log.info("Merged {} search segments into {} ({} bytes)",
+                run.size(), merged.path().getFileName(), merged.sizeBytes());
+    }
+
+    /**
+     * Streams the union of the segments' users into the writer. A transaction
+     * indexed twice (by the catch-up and by its commit) keeps its first copy.
+     */
+    private static void writeMerged(List<MappedSegment> run, SegmentWriter writer) throws IOException {
+        TreeSet<Long> userIds = new TreeSet<>();
+        for (MappedSegment segment : run) {
+            for (int i = 0; i < segment.userCount(); i++) {
+                userIds.add(segment.userIdAt(i));
+            }
+        }
+        for (long userId : userIds) {
+            List<MappedSegment.UserView> views = new ArrayList<>(run.size());
+            int capacity = 0;
+            for (MappedSegment segment : run) {
+                MappedSegment.UserView view = segment.user(userId);
+                if (view != null) {
+                    views.add(view);
+                    capacity += view.docCount();
+                }
+            }
+            long[] ids = new long[capacity];
+            int[] days = new int[capacity];
+            byte[] types = new byte[capacity];
+            int docCount = 0;
+            Set<Long> seen = new HashSet<>(capacity * 2);
+            TreeMap<byte[], Postings> terms = new TreeMap<>(SegmentWriter.TERM_ORDER);
+            for (MappedSegment.UserView view : views) {
+                int[] remap = new int[view.docCount()];
+                for (int ordinal = 0; ordinal < view.docCount(); ordinal++) {
+                    long id = view.id(ordinal);
+                    if (!seen.add(id)) {
+                        remap[ordinal] = -1;
+                        continue;
+                    }
+                    remap[ordinal] = docCount;
+                    ids[docCount] = id;
+                    days[docCount] = view.day(ordinal);
+                    types[docCount] = (byte) view.type(ordinal);
+                    docCount++;
+                }
+                view.forEachTerm((term, ordinals, count) -> {
+                    Postings postings = terms.computeIfAbsent(term, k -> new Postings());
+                    for (int i = 0; i < count; i++) {
+                        if (remap[ordinals[i]] >= 0) {
+                            postings.add(remap[ordinals[i]]);
+                        }
+                    }
+                });
+            }
+            List<SegmentWriter.Term> written = new ArrayList<>(terms.size());
+            terms.forEach((term, postings) -> {
+                if (postings.count() > 0) {
+                    written.add(new SegmentWriter.Term(term, postings.ordinals(), postings.count()));
+                }
+            });
+            writer.addUser(userId, new SegmentWriter.UserData(docCount, ids, days, types, written));
+        }
+    }
+
+    private interface SegmentContent {
+        void writeTo(SegmentWriter writer) throws IOException;
+    }
+
+    /**
+     * Writes to a temporary file, renames it into place and maps it, so a crash
+     * never leaves a partial segment under a segment name.
+     */
+    private MappedSegment writeSegment(long minGeneration, long maxGeneration, long maxTransactionId,
+                                       SegmentContent content) throws IOException {
+        String name = "segment-" + minGeneration + "-" + maxGeneration + ".seg";
+        Path temporary = directory.resolve(name + ".tmp");
+        Path target = directory.resolve(name);
+        try {
+            try (SegmentWriter writer = new SegmentWriter(temporary)) {
+                content.writeTo(writer);
+                writer.finish(maxTransactionId);
+            }
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temporary);
+            throw e;
+        }
+        return MappedSegment.open(target, minGeneration, maxGeneration);
+    }
+
+    private void discardSegments() {
+        flushLock.lock();
+        try {
+            State current = state;
+            state = new State(List.of(), current.frozen(), current.live());
+            for (MappedSegment segment : current.segments()) {
+                deleteQuietly(segment.path());
+            }
+            deleteQuietly(directory.resolve(CURSOR_FILE));
+            cursor = 0L;
+            indexedAboveCursor.clear();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private long readCursor() throws IOException {
+        Path file = directory.resolve(CURSOR_FILE);
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim());
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring unreadable search cursor {}", file);
+            return 0L;
+        }
+    }
+
+    private void writeCursor(long value) {
+        Path temporary = directory.resolve(CURSOR_FILE + ".tmp");
+        try {
+            Files.writeString(temporary, Long.toString(value), StandardCharsets.US_ASCII);
+            Files.move(temporary, directory.resolve(CURSOR_FILE),
+                    StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            log.warn("Failed to save the search cursor: {}", e.getMessage());
+            deleteQuietly(temporary);
+        }
+    }
+
+    /**
+     * Removes segments whose generations a merged segment also covers, left
+     * behind when the process stopped between writing a merge and deleting its
+     * inputs.
+     */
+    private List<MappedSegment> dropSuperseded(List<MappedSegment> segments) {
+        List<MappedSegment> kept = new ArrayList<>();
+        for (MappedSegment segment : segments) {
+            boolean superseded = false;
+            for (MappedSegment other : segments) {
+                if (other != segment && other.minGeneration() <= segment.minGeneration()
+                        && segment.maxGeneration() <= other.maxGeneration()
+                        && other.maxGeneration() - other.minGeneration()
+                        > segment.maxGeneration() - segment.minGeneration()) {
+                    superseded = true;
+                    break;
+                }
+            }
+            if (superseded) {
+                deleteQuietly(segment.path());
+            } else {
+                kept.add(segment);
+            }
+        }
+        kept.sort(Comparator.comparingLong(MappedSegment::maxGeneration));
+        return kept;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * Collects matching ids from every segment, then sorts and de-duplicates them.
+     */
+    private static final class IdBuffer implements LongConsumer {
+        private long[] ids = new long[64];
+        private int size;
+
+        @Override
+        public void accept(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        long[] newestFirst() {
+            Arrays.sort(ids, 0, size);
+            long[] result = new long[size];
+            int count = 0;
+            for (int i = size - 1; i >= 0; i--) {
+                if (count == 0 || result[count - 1] != ids[i]) {
+                    result[count++] = ids[i];
+                }
+            }
+            return count == size ? result : Arrays.copyOf(result, count);
+        }
+    }
+}
@@ -1,12 +1,11 @@
 package com.securewallet.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.securewallet.dto.response.ApiResponse;
+import com.securewallet.exception.ErrorResponses;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -14,26 +13,16 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    private final ErrorResponses errorResponses;
+
     @Override
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
-
-        log.error("Responding with unauthorized error. Message - {}", authException.getMessage());
-
-        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-
-        ApiResponse<Void> apiResponse = ApiResponse.error(
-                "You need to login to access this resource",
-                "UNAUTHORIZED"
-        );
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.findAndRegisterModules();
-        mapper.writeValue(response.getOutputStream(), apiResponse);
+        errorResponses.write(response, HttpStatus.UNAUTHORIZED, "UNAUTHORIZED",
+                "You need to login to access this resource");
     }
 }
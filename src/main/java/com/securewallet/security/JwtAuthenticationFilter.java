@@ -1,5 +1,10 @@
 package com.securewallet.security;
 
+import com.securewallet.timing.RequestTimings;
+import com.securewallet.timing.TimingPhase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +20,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
@@ -23,6 +29,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+    private final MetricsScrapeAuthorization metricsScrapeAuthorization;
+
+    private Timer authenticatedTimer;
+    private Timer rejectedTimer;
+
+    @PostConstruct
+    public void init() {
+        authenticatedTimer = jwtTimer("authenticated");
+        rejectedTimer = jwtTimer("rejected");
+    }
+
+    private Timer jwtTimer(String outcome) {
+        return Timer.builder("securewallet.auth.jwt")
+                .description("JWT verification and principal loading per request")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // The scrape token is not a JWT; it is checked when the endpoint is authorized
+        return metricsScrapeAuthorization.isScrapeRequest(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -30,13 +61,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
+        String jwt = extractJwtFromRequest(request);
+        long start = System.nanoTime();
+        boolean authenticated = false;
         try {
-            String jwt = extractJwtFromRequest(request);
-
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
                 Long userId = tokenProvider.getUserIdFromToken(jwt);
+                RequestTimings.record(TimingPhase.AUTH, start);
 
+                long principalStart = System.nanoTime();
                 UserDetails userDetails = userDetailsService.loadUserById(userId);
+                RequestTimings.record(TimingPhase.PRINCIPAL, principalStart);
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -48,10 +83,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                authenticated = true;
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
         }
+        if (jwt != null) {
+            Timer timer = authenticated ? authenticatedTimer : rejectedTimer;
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
 
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,67 @@
+package com.securewallet.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.function.Supplier;
+
+/**
+ * Guards the Prometheus endpoint: admins may read it with their JWT, and a
+ * scraper may present {@code securewallet.metrics.scrape-token} as its bearer
+ * token. Without a configured token only admins get through.
+ */
+@Component
+public class MetricsScrapeAuthorization implements AuthorizationManager<RequestAuthorizationContext> {
+
+    public static final String SCRAPE_PATH = "/actuator/prometheus";
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final byte[] scrapeToken;
+
+    public MetricsScrapeAuthorization(@Value("${securewallet.metrics.scrape-token:}") String scrapeToken) {
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        return new AuthorizationDecision(isScrapeRequest(context.getRequest()) || isAdmin(authentication.get()));
+    }
+
+    /**
+     * Whether the request carries the scrape token, which is not a JWT and must
+     * not be handed to the JWT filter.
+     */
+    public boolean isScrapeRequest(HttpServletRequest request) {
+        if (scrapeToken.length == 0) {
+            return false;
+        }
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return false;
+        }
+        byte[] presented = header.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8);
+        return MessageDigest.isEqual(scrapeToken, presented);
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if ("ROLE_ADMIN".equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
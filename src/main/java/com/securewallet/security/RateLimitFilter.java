@@ -0,0 +1,80 @@
+package com.securewallet.security;
+
+import com.securewallet.config.RateLimitProperties;
+import com.securewallet.exception.ErrorResponses;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the rate limit groups keyed one way. The chain runs an IP-keyed
+ * instance before JWT authentication, so floods are rejected before a token is
+ * parsed or a principal loaded, and a user-keyed one after it.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final ErrorResponses errorResponses;
+    private final RateLimitProperties.KeyStrategy keyBy;
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties,
+                           ErrorResponses errorResponses, RateLimitProperties.KeyStrategy keyBy) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+        this.errorResponses = errorResponses;
+        this.keyBy = keyBy;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        // Both instances share the class, so each needs its own marker
+        return super.getAlreadyFilteredAttributeName() + "." + keyBy;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        RateLimiter.Group group = rateLimiter.resolveGroup(request);
+        if (group != null && group.getKeyBy() == keyBy) {
+            long waitNanos = group.tryAcquire(resolveKey(group, request));
+            if (waitNanos > 0) {
+                long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+                errorResponses.write(response, HttpStatus.TOO_MANY_REQUESTS, "RATE_LIMITED",
+                        "Too many requests. Please retry after " + retryAfterSeconds + " seconds");
+                return;
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String resolveKey(RateLimiter.Group group, HttpServletRequest request) {
+        if (keyBy == RateLimitProperties.KeyStrategy.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+                return "user:" + principal.getId();
+            }
+        }
+        // The client address behind a trusted proxy; see server.forward-headers-strategy
+        return "ip:" + request.getRemoteAddr();
+    }
+}
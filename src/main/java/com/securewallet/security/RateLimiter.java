@@ -0,0 +1,136 @@
+package com.securewallet.security;
+
+import com.securewallet.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final List<Group> groups = new ArrayList<>();
+    private final long idleEvictionNanos;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.idleEvictionNanos = properties.getIdleEviction().toNanos();
+        properties.getGroups().forEach((name, config) -> {
+            Group group = new Group(name, config, meterRegistry);
+            groups.add(group);
+            log.info("Rate limit group '{}': {} requests per {} keyed by {}",
+                    name, config.getCapacity(), config.getRefillPeriod(), config.getKeyBy());
+        });
+    }
+
+    public Group resolveGroup(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String method = request.getMethod();
+        for (Group group : groups) {
+            if (group.matches(path, method)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${securewallet.rate-limit.eviction-interval:30000}")
+    public void evictIdleBuckets() {
+        long threshold = System.nanoTime() - idleEvictionNanos;
+        for (Group group : groups) {
+            int before = group.buckets.size();
+            group.buckets.entrySet().removeIf(entry -> entry.getValue().isFullSince(threshold));
+            int evicted = before - group.buckets.size();
+            if (evicted > 0) {
+                log.debug("Evicted {} idle buckets from rate limit group '{}'", evicted, group.name);
+            }
+        }
+    }
+
+    public static class Group {
+        private final String name;
+        private final List<String> paths;
+        private final Set<String> methods;
+        private final RateLimitProperties.KeyStrategy keyBy;
+        private final long capacity;
+        private final long emissionIntervalNanos;
+        private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final Counter allowed;
+        private final Counter rejected;
+
+        Group(String name, RateLimitProperties.Group config, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.paths = List.copyOf(config.getPaths());
+            this.methods = config.getMethods().stream()
+                    .map(m -> m.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.keyBy = config.getKeyBy();
+            this.capacity = config.getCapacity();
+            this.emissionIntervalNanos = Math.max(1, config.getRefillPeriod().toNanos() / config.getCapacity());
+            this.allowed = Counter.builder("securewallet.ratelimit.requests")
+                    .tag("group", name)
+                    .tag("outcome", "allowed")
+                    .register(meterRegistry);
+            this.rejected = Counter.builder("securewallet.ratelimit.requests")
+                    .tag("group", name)
+                    .tag("outcome", "rejected")
+                    .register(meterRegistry);
+            Gauge.builder("securewallet.ratelimit.buckets", buckets, Map::size)
+                    .tag("group", name)
+                    .register(meterRegistry);
+        }
+
+        boolean matches(String path, String method) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            for (String pattern : paths) {
+                if (PATH_MATCHER.match(pattern, path)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public RateLimitProperties.KeyStrategy getKeyBy() {
+            return keyBy;
+        }
+
+        /**
+         * @return {@code 0} if the request may proceed, otherwise the number of
+         * nanoseconds the caller should wait before retrying
+         */
+        public long tryAcquire(String key) {
+            long now = System.nanoTime();
+            TokenBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(capacity, emissionIntervalNanos, now));
+            }
+            long waitNanos = bucket.tryConsume(now);
+            if (waitNanos == 0) {
+                allowed.increment();
+            } else {
+                rejected.increment();
+            }
+            return waitNanos;
+        }
+    }
+}
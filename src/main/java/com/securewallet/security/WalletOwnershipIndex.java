@@ -0,0 +1,160 @@
+package com.securewallet.security;
+
+import com.securewallet.entity.Wallet;
+import com.securewallet.exception.UnauthorizedAccessException;
+import com.securewallet.repository.WalletRepository;
+import com.securewallet.repository.WalletRepository.WalletOwnership;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * walletId to userId index used for ownership checks without loading wallets.
+ * Ownership is fixed at creation, so the index is only ever appended to. Wallets
+ * it does not know yet (created on another instance, or before the startup load
+ * finished) fall back to the entity.
+ */
+@Component
+@Slf4j
+public class WalletOwnershipIndex {
+
+    public static final long NO_OWNER = 0L;
+
+    private static final int LOAD_BATCH_SIZE = 10_000;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private final WalletRepository walletRepository;
+    private volatile Table table = new Table(INITIAL_CAPACITY);
+
+    public WalletOwnershipIndex(WalletRepository walletRepository, MeterRegistry meterRegistry) {
+        this.walletRepository = walletRepository;
+        Gauge.builder("securewallet.wallet.ownership.index.size", this, index -> index.table.size)
+                .description("Wallets in the in-memory ownership index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        long lastWalletId = 0L;
+        List<WalletOwnership> batch;
+        do {
+            batch = walletRepository.findOwnershipAfter(lastWalletId, PageRequest.ofSize(LOAD_BATCH_SIZE));
+            for (WalletOwnership ownership : batch) {
+                put(ownership.getWalletId(), ownership.getUserId());
+                lastWalletId = ownership.getWalletId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Loaded ownership of {} wallets in {} ms", table.size, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Owner of the wallet, or {@link #NO_OWNER} when the wallet is not indexed.
+     */
+    public long ownerOf(long walletId) {
+        return table.get(walletId);
+    }
+
+    /**
+     * Rejects a request for a wallet the index knows belongs to someone else,
+     * before anything is loaded or locked. Unknown wallets pass through to the
+     * entity-based check.
+     */
+    public void checkNotForeign(Long walletId, Long userId) {
+        long owner = ownerOf(walletId);
+        if (owner != NO_OWNER && owner != userId) {
+            throw new UnauthorizedAccessException("You don't have access to this wallet");
+        }
+    }
+
+    public boolean isOwnedBy(Wallet wallet, Long userId) {
+        long owner = ownerOf(wallet.getId());
+        if (owner == NO_OWNER) {
+            owner = wallet.getUser().getId();
+        }
+        return owner == userId;
+    }
+
+    public synchronized void put(long walletId, long userId) {
+        Table current = table;
+        if (current.size + 1 > current.capacity() >> 1) {
+            current = current.resize();
+            table = current;
+        }
+        current.put(walletId, userId);
+    }
+
+    /**
+     * Open-addressing table with keys and values interleaved in one array. The
+     * single writer stores the value before the key, so a reader that sees the key
+     * also sees its value; resizes publish a new table and leave the old one intact.
+     */
+    private static final class Table {
+        private static final long EMPTY = 0L;
+        private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+        private final AtomicLongArray slots;
+        private final int mask;
+        private final int shift;
+        private volatile int size;
+
+        Table(int capacity) {
+            this.slots = new AtomicLongArray(capacity * 2);
+            this.mask = capacity - 1;
+            this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        }
+
+        int capacity() {
+            return mask + 1;
+        }
+
+        long get(long key) {
+            for (int index = slotOf(key); ; index = (index + 1) & mask) {
+                long candidate = slots.get(index << 1);
+                if (candidate == key) {
+                    return slots.get((index << 1) + 1);
+                }
+                if (candidate == EMPTY) {
+                    return NO_OWNER;
+                }
+            }
+        }
+
+        void put(long key, long value) {
+            for (int index = slotOf(key); ; index = (index + 1) & mask) {
+                long candidate = slots.get(index << 1);
+                if (candidate == key) {
+                    return;
+                }
+                if (candidate == EMPTY) {
+                    slots.lazySet((index << 1) + 1, value);
+                    slots.set(index << 1, key);
+                    size++;
+                    return;
+                }
+            }
+        }
+
+        Table resize() {
+            Table resized = new Table(capacity() << 1);
+            for (int index = 0; index <= mask; index++) {
+                long key = slots.get(index << 1);
+                if (key != EMPTY) {
+                    resized.put(key, slots.get((index << 1) + 1));
+                }
+            }
+            return resized;
+        }
+
+        private int slotOf(long key) {
+            return (int) ((key * GOLDEN_RATIO) >>> shift);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.securewallet.service;
+
+import com.securewallet.dto.response.SpendingAnalyticsResponse;
+import com.securewallet.enums.AggregatePeriod;
+
+import java.time.LocalDate;
+
+public interface AnalyticsService {
+    SpendingAnalyticsResponse getSpending(Long userId, AggregatePeriod granularity, LocalDate from, LocalDate to);
+}
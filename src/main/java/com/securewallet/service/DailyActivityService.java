@@ -0,0 +1,12 @@
+package com.securewallet.service;
+
+import com.securewallet.dto.response.AggregateBackfillResponse;
+import com.securewallet.dto.response.DailyActivityResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyActivityService {
+    List<DailyActivityResponse> getDailyActivity(Long walletId, Long userId, LocalDate from, LocalDate to);
+    AggregateBackfillResponse backfill(LocalDate from, LocalDate to);
+}
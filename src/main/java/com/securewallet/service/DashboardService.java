@@ -0,0 +1,7 @@
+package com.securewallet.service;
+
+import com.securewallet.dto.response.DashboardResponse;
+
+public interface DashboardService {
+    DashboardResponse getDashboard(Long userId, int recentTransactions);
+}
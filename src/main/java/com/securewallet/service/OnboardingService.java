@@ -0,0 +1,16 @@
+package com.securewallet.service;
+
+import com.securewallet.dto.request.OnboardingRequest;
+import com.securewallet.dto.response.OnboardingResult;
+
+import java.util.List;
+
+public interface OnboardingService {
+    int getBatchSize();
+
+    /**
+     * Onboards one batch of a stream. {@code null} entries stand for records that
+     * could not be parsed. Results are returned in input order.
+     */
+    List<OnboardingResult> onboardBatch(List<OnboardingRequest> batch, long firstRecord);
+}
@@ -0,0 +1,13 @@
+package com.securewallet.service;
+
+import com.securewallet.dto.response.ReconciliationDiscrepancyResponse;
+import com.securewallet.dto.response.ReconciliationRunResponse;
+import com.securewallet.enums.ReconciliationMode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ReconciliationService {
+    ReconciliationRunResponse start(ReconciliationMode mode);
+    ReconciliationRunResponse getRun(Long runId);
+    Page<ReconciliationDiscrepancyResponse> getDiscrepancies(Long runId, Pageable pageable);
+}
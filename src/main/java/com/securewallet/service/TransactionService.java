@@ -9,6 +9,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface TransactionService {
     TransactionResponse deposit(DepositRequest request, Long userId);
@@ -16,5 +17,9 @@ public interface TransactionService {
     TransactionResponse transfer(TransferRequest request, Long userId);
     Page<TransactionResponse> getTransactions(Long userId, Long walletId, TransactionType type,
                                                LocalDate startDate, LocalDate endDate, Pageable pageable);
+    Page<TransactionResponse> searchTransactions(Long userId, String query, TransactionType type,
+                                                  LocalDate startDate, LocalDate endDate, Pageable pageable);
     TransactionResponse getTransactionById(Long transactionId, Long userId);
+    List<TransactionResponse> getRecentTransactions(Long userId, int limit);
+    Long getTransactionVersion(Long transactionId, Long userId);
 }
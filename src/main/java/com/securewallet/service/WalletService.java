@@ -6,11 +6,15 @@ import com.securewallet.dto.response.WalletResponse;
 import com.securewallet.enums.WalletStatus;
 
 import java.util.List;
+import java.util.Map;
 
 public interface WalletService {
     List<WalletResponse> getWalletsByUserId(Long userId);
     WalletResponse getWalletById(Long walletId, Long userId);
     WalletResponse createWallet(CreateWalletRequest request, Long userId);
     BalanceResponse getBalance(Long walletId, Long userId);
+    List<BalanceResponse> getBalances(List<Long> walletIds, Long userId);
     WalletResponse updateStatus(Long walletId, WalletStatus status, Long userId);
+    Long getWalletVersion(Long walletId, Long userId);
+    Map<Long, Long> getWalletVersions(Long userId);
 }
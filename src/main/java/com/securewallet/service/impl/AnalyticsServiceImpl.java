@@ -0,0 +1,157 @@
+package com.securewallet.service.impl;
+
+import com.securewallet.cache.AnalyticsCache;
+import com.securewallet.dto.response.SpendingAnalyticsResponse;
+import com.securewallet.dto.response.SpendingBucket;
+import com.securewallet.dto.response.SpendingBucket.TypeTotals;
+import com.securewallet.dto.response.WalletResponse;
+import com.securewallet.entity.WalletPeriodAggregate;
+import com.securewallet.enums.AggregatePeriod;
+import com.securewallet.enums.TransactionType;
+import com.securewallet.exception.InvalidTransactionException;
+import com.securewallet.money.Money;
+import com.securewallet.repository.WalletPeriodAggregateRepository;
+import com.securewallet.service.AnalyticsService;
+import com.securewallet.service.WalletService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Spending breakdowns answered from the week, month and year rollups in
+ * {@code wallet_period_aggregates}: a multi-year query reads a handful of rows
+ * per wallet and type however many transactions it covers.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private final WalletPeriodAggregateRepository periodAggregateRepository;
+    private final WalletService walletService;
+    private final AnalyticsCache analyticsCache;
+
+    @Value("${securewallet.analytics.max-buckets:520}")
+    private int maxBuckets;
+
+    @Override
+    public SpendingAnalyticsResponse getSpending(Long userId, AggregatePeriod granularity,
+                                                 LocalDate from, LocalDate to) {
+        if (granularity == AggregatePeriod.DAY) {
+            throw new InvalidTransactionException("Use the wallet daily-activity endpoint for daily figures");
+        }
+        if (from.isAfter(to)) {
+            throw new InvalidTransactionException("Start date must not be after end date");
+        }
+        LocalDate first = granularity.start(from);
+        LocalDate last = granularity.start(to);
+        int buckets = 0;
+        for (LocalDate start = first; !start.isAfter(last); start = granularity.next(start)) {
+            if (++buckets > maxBuckets) {
+                throw new InvalidTransactionException("Date range is limited to " + maxBuckets + " "
+                        + granularity.name().toLowerCase() + " buckets");
+            }
+        }
+
+        List<WalletResponse> wallets = walletService.getWalletsByUserId(userId);
+        List<Long> walletIds = new ArrayList<>(wallets.size());
+        TreeSet<String> currencies = new TreeSet<>();
+        for (WalletResponse wallet : wallets) {
+            walletIds.add(wallet.getId());
+            currencies.add(wallet.getCurrency());
+        }
+        // Flushes on any instance move this stamp, so it is checked on every read
+        LocalDateTime lastUpdate = walletIds.isEmpty() ? null
+                : periodAggregateRepository.findLastUpdate(walletIds).orElse(null);
+
+        AnalyticsCache.Query query = new AnalyticsCache.Query(granularity, first, last);
+        ConcurrentMap<AnalyticsCache.Query, SpendingAnalyticsResponse> cached = analyticsCache.forUser(
+                userId, new AnalyticsCache.Version(lastUpdate, walletIds, Set.copyOf(currencies)));
+        SpendingAnalyticsResponse response = cached.get(query);
+        if (response == null) {
+            response = load(walletIds, currencies, granularity, first, last);
+            cached.put(query, response);
+        }
+        return response;
+    }
+
+    private SpendingAnalyticsResponse load(List<Long> walletIds, Set<String> walletCurrencies,
+                                           AggregatePeriod granularity, LocalDate first, LocalDate last) {
+        TreeSet<String> currencies = new TreeSet<>(walletCurrencies);
+        List<WalletPeriodAggregate> rows = walletIds.isEmpty() ? List.of()
+                : periodAggregateRepository.findByWalletIdInAndPeriodAndPeriodStartBetween(
+                        walletIds, granularity, first, last);
+
+        // Totals per bucket start and currency; transfers between the user's own
+        // wallets count once as outflow and once as inflow
+        Map<LocalDate, Map<String, Totals>> totals = new HashMap<>();
+        for (WalletPeriodAggregate row : rows) {
+            currencies.add(row.getCurrency());
+            totals.computeIfAbsent(row.getPeriodStart(), k -> new TreeMap<>())
+                    .computeIfAbsent(row.getCurrency(), k -> new Totals())
+                    .add(row);
+        }
+
+        List<SpendingBucket> buckets = new ArrayList<>();
+        for (LocalDate start = first; !start.isAfter(last); start = granularity.next(start)) {
+            Map<String, Totals> byCurrency = totals.getOrDefault(start, Map.of());
+            for (String currency : currencies) {
+                Totals bucket = byCurrency.getOrDefault(currency, new Totals());
+                buckets.add(bucket.toBucket(start, currency));
+            }
+        }
+        return SpendingAnalyticsResponse.builder()
+                .granularity(granularity)
+                .startDate(first)
+                .endDate(granularity.next(last).minusDays(1))
+                .buckets(buckets)
+                .build();
+    }
+
+    private static final class Totals {
+        private long inflow;
+        private long outflow;
+        private long count;
+        private final Map<TransactionType, long[]> byType = new EnumMap<>(TransactionType.class);
+
+        void add(WalletPeriodAggregate row) {
+            long rowInflow = row.getInflow().getMinorUnits();
+            long rowOutflow = row.getOutflow().getMinorUnits();
+            inflow += rowInflow;
+            outflow += rowOutflow;
+            count += row.getTransactionCount();
+            long[] type = byType.computeIfAbsent(row.getType(), k -> new long[3]);
+            type[0] += rowInflow;
+            type[1] += rowOutflow;
+            type[2] += row.getTransactionCount();
+        }
+
+        SpendingBucket toBucket(LocalDate start, String currency) {
+            Map<TransactionType, TypeTotals> types = new EnumMap<>(TransactionType.class);
+            byType.forEach((type, sums) -> types.put(type, TypeTotals.builder()
+                    .inflow(Money.ofMinor(sums[0], currency))
+                    .outflow(Money.ofMinor(sums[1], currency))
+                    .transactionCount(sums[2])
+                    .build()));
+            return SpendingBucket.builder()
+                    .periodStart(start)
+                    .currency(currency)
+                    .inflow(Money.ofMinor(inflow, currency))
+                    .outflow(Money.ofMinor(outflow, currency))
+                    .transactionCount(count)
+                    .byType(types)
+                    .build();
+        }
+    }
+}
@@ -10,12 +10,14 @@ import com.securewallet.entity.Role;
 import com.securewallet.entity.User;
 import com.securewallet.exception.DuplicateResourceException;
 import com.securewallet.exception.InvalidTransactionException;
+import com.securewallet.logging.LogCategories;
 import com.securewallet.repository.RefreshTokenRepository;
 import com.securewallet.repository.RoleRepository;
 import com.securewallet.repository.UserRepository;
 import com.securewallet.security.JwtTokenProvider;
 import com.securewallet.security.UserPrincipal;
 import com.securewallet.service.AuthService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -47,9 +49,8 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     @Transactional
+    @Timed(value = "securewallet.auth", extraTags = {"operation", "register"}, histogram = true)
     public UserResponse register(RegisterRequest request) {
-        log.info("Registering new user with email: {}", request.getEmail());
-
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("Email already registered: " + request.getEmail());
         }
@@ -68,16 +69,15 @@ public class AuthServiceImpl implements AuthService {
         user.addRole(userRole);
         User savedUser = userRepository.save(user);
 
-        log.info("User registered successfully with id: {}", savedUser.getId());
+        log.atInfo().addKeyValue("userId", savedUser.getId()).log("User registered");
 
         return mapToUserResponse(savedUser);
     }
 
     @Override
     @Transactional
+    @Timed(value = "securewallet.auth", extraTags = {"operation", "login"}, histogram = true)
     public AuthResponse login(LoginRequest request) {
-        log.info("Login attempt for user: {}", request.getEmail());
-
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         request.getEmail(),
@@ -90,10 +90,11 @@ public class AuthServiceImpl implements AuthService {
         String accessToken = tokenProvider.generateAccessToken(userPrincipal);
         String refreshToken = createRefreshToken(userPrincipal.getId());
 
+        // Already in the persistence context, roles included, from authentication
         User user = userRepository.findById(userPrincipal.getId())
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        log.info("User logged in successfully: {}", request.getEmail());
+        LogCategories.SESSIONS.atInfo().addKeyValue("userId", user.getId()).log("User logged in");
 
         return AuthResponse.builder()
                 .accessToken(accessToken)
@@ -106,9 +107,8 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     @Transactional
+    @Timed(value = "securewallet.auth", extraTags = {"operation", "refresh"}, histogram = true)
     public AuthResponse refreshToken(RefreshTokenRequest request) {
-        log.info("Refreshing token");
-
         RefreshToken refreshToken = refreshTokenRepository.findByToken(request.getRefreshToken())
                 .orElseThrow(() -> new InvalidTransactionException("Invalid refresh token"));
 
@@ -124,6 +124,7 @@ public class AuthServiceImpl implements AuthService {
         String newRefreshToken = createRefreshToken(user.getId());
 
         refreshTokenRepository.delete(refreshToken);
+        LogCategories.SESSIONS.atInfo().addKeyValue("userId", user.getId()).log("Token refreshed");
 
         return AuthResponse.builder()
                 .accessToken(newAccessToken)
@@ -137,26 +138,21 @@ public class AuthServiceImpl implements AuthService {
     @Override
     @Transactional
     public void logout(String token) {
-        log.info("User logout");
         // Token is already extracted, just delete associated refresh tokens
         if (token != null && token.startsWith("Bearer ")) {
             String jwt = token.substring(7);
             if (tokenProvider.validateToken(jwt)) {
                 Long userId = tokenProvider.getUserIdFromToken(jwt);
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    refreshTokenRepository.deleteByUser(user);
-                }
+                refreshTokenRepository.deleteByUserId(userId);
+                LogCategories.SESSIONS.atInfo().addKeyValue("userId", userId).log("User logged out");
             }
         }
     }
 
     private String createRefreshToken(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
+        // Only the foreign key is needed; the caller has already authenticated the user
         RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
+                .user(userRepository.getReferenceById(userId))
                 .token(UUID.randomUUID().toString())
                 .expiryDate(Instant.now().plusMillis(refreshTokenExpiration))
                 .build();
@@ -0,0 +1,199 @@
+package com.securewallet.service.impl;
+
+import com.securewallet.aggregate.AggregateBuffer;
+import com.securewallet.dto.response.AggregateBackfillResponse;
+import com.securewallet.dto.response.DailyActivityResponse;
+import com.securewallet.dto.response.WalletResponse;
+import com.securewallet.entity.WalletDailyAggregate;
+import com.securewallet.enums.AggregatePeriod;
+import com.securewallet.enums.TransactionType;
+import com.securewallet.exception.InvalidTransactionException;
+import com.securewallet.money.Money;
+import com.securewallet.repository.WalletDailyAggregateRepository;
+import com.securewallet.service.DailyActivityService;
+import com.securewallet.service.WalletService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Chart reads over {@code wallet_daily_aggregates}, which cost one row per day
+ * and type regardless of transaction volume, and the backfill that rebuilds
+ * closed days from {@code transactions} and the week, month and year rollups
+ * from the days.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyActivityServiceImpl implements DailyActivityService {
+
+    private static final String DELETE_DAYS = "DELETE FROM wallet_daily_aggregates " +
+            "WHERE activity_date >= ? AND activity_date <= ?";
+    private static final String REBUILD_DAYS = "INSERT INTO wallet_daily_aggregates (wallet_id, activity_date, " +
+            "transaction_type, currency, inflow, outflow, transaction_count) " +
+            "SELECT wallet_id, activity_date, transaction_type, currency, SUM(inflow), SUM(outflow), COUNT(*) FROM (" +
+            "SELECT destination_wallet_id AS wallet_id, CAST(created_at AS DATE) AS activity_date, " +
+            "transaction_type, currency, amount AS inflow, 0 AS outflow FROM transactions " +
+            "WHERE destination_wallet_id IS NOT NULL AND status = 'COMPLETED' AND created_at >= ? AND created_at < ? " +
+            "UNION ALL " +
+            "SELECT source_wallet_id, CAST(created_at AS DATE), transaction_type, currency, 0, amount " +
+            "FROM transactions " +
+            "WHERE source_wallet_id IS NOT NULL AND status = 'COMPLETED' AND created_at >= ? AND created_at < ?" +
+            ") movements GROUP BY wallet_id, activity_date, transaction_type, currency";
+    private static final String DELETE_PERIOD = "DELETE FROM wallet_period_aggregates " +
+            "WHERE period = ? AND period_start = ?";
+    private static final String INSERT_PERIOD_SELECT = "INSERT INTO wallet_period_aggregates (wallet_id, period, " +
+            "period_start, transaction_type, currency, inflow, outflow, transaction_count, updated_at) " +
+            "SELECT wallet_id, CAST(? AS VARCHAR(10)), CAST(? AS DATE), transaction_type, currency, " +
+            "SUM(inflow), SUM(outflow), SUM(transaction_count), CURRENT_TIMESTAMP ";
+    private static final String PERIOD_FROM_DAYS = INSERT_PERIOD_SELECT +
+            "FROM wallet_daily_aggregates WHERE activity_date >= ? AND activity_date < ? " +
+            "GROUP BY wallet_id, transaction_type, currency";
+    private static final String YEAR_FROM_MONTHS = INSERT_PERIOD_SELECT +
+            "FROM wallet_period_aggregates WHERE period = 'MONTH' AND period_start >= ? AND period_start < ? " +
+            "GROUP BY wallet_id, transaction_type, currency";
+
+    private final WalletDailyAggregateRepository aggregateRepository;
+    private final WalletService walletService;
+    private final AggregateBuffer aggregateBuffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${securewallet.aggregates.max-range-days:366}")
+    private int maxRangeDays;
+
+    @Value("${securewallet.aggregates.rebuild-days:2}")
+    private int rebuildDays;
+
+    private TransactionTemplate rebuildTransaction;
+
+    @PostConstruct
+    public void init() {
+        rebuildTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<DailyActivityResponse> getDailyActivity(Long walletId, Long userId, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidTransactionException("Start date must not be after end date");
+        }
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        if (days > maxRangeDays) {
+            throw new InvalidTransactionException("Date range is limited to " + maxRangeDays + " days");
+        }
+        // Checks ownership, usually from the wallet cache, and fixes the currency
+        WalletResponse wallet = walletService.getWalletById(walletId, userId);
+
+        long[] inflow = new long[days];
+        long[] outflow = new long[days];
+        long[] count = new long[days];
+        List<Map<TransactionType, Long>> byType = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            byType.add(new EnumMap<>(TransactionType.class));
+        }
+        for (WalletDailyAggregate row : aggregateRepository.findByWalletIdAndDayBetweenOrderByDay(walletId, from, to)) {
+            int i = (int) ChronoUnit.DAYS.between(from, row.getDay());
+            inflow[i] += row.getInflow().getMinorUnits();
+            outflow[i] += row.getOutflow().getMinorUnits();
+            count[i] += row.getTransactionCount();
+            byType.get(i).merge(row.getType(), row.getTransactionCount(), Long::sum);
+        }
+
+        List<DailyActivityResponse> activity = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            activity.add(DailyActivityResponse.builder()
+                    .date(from.plusDays(i))
+                    .inflow(Money.ofMinor(inflow[i], wallet.getCurrency()))
+                    .outflow(Money.ofMinor(outflow[i], wallet.getCurrency()))
+                    .transactionCount(count[i])
+                    .transactionsByType(byType.get(i))
+                    .build());
+        }
+        return activity;
+    }
+
+    /**
+     * Rebuilds the aggregates of closed days from {@code transactions}, one
+     * calendar month per database transaction, then the weeks, month and year
+     * containing them from the level below. Today is excluded because its
+     * transactions are still arriving through the buffer; {@code to} is clamped
+     * to yesterday.
+     */
+    @Override
+    public AggregateBackfillResponse backfill(LocalDate from, LocalDate to) {
+        LocalDate lastClosedDay = LocalDate.now().minusDays(1);
+        LocalDate end = to.isAfter(lastClosedDay) ? lastClosedDay : to;
+        if (from.isAfter(end)) {
+            throw new InvalidTransactionException("Backfill covers closed days only, up to " + lastClosedDay);
+        }
+
+        long start = System.nanoTime();
+        long rows = 0;
+        LocalDate chunkStart = from;
+        while (!chunkStart.isAfter(end)) {
+            LocalDate monthEnd = AggregatePeriod.MONTH.next(AggregatePeriod.MONTH.start(chunkStart)).minusDays(1);
+            LocalDate chunkEnd = monthEnd.isAfter(end) ? end : monthEnd;
+            LocalDate first = chunkStart;
+            LocalDate last = chunkEnd;
+            rows += aggregateBuffer.flushAndRunExclusive(() -> rebuildTransaction.execute(status -> rebuild(first, last)));
+            chunkStart = chunkEnd.plusDays(1);
+        }
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Rebuilt aggregates for {} to {}: {} rows in {} ms", from, end, rows, durationMillis);
+        return AggregateBackfillResponse.builder()
+                .from(from)
+                .to(end)
+                .rowsWritten(rows)
+                .durationMillis(durationMillis)
+                .build();
+    }
+
+    /**
+     * Re-derives the most recent closed days, repairing any deltas lost when an
+     * instance stopped without flushing.
+     */
+    @Scheduled(cron = "${securewallet.aggregates.rebuild-cron:0 10 0 * * *}")
+    public void rebuildRecentDays() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        backfill(yesterday.minusDays(rebuildDays - 1), yesterday);
+    }
+
+    private long rebuild(LocalDate first, LocalDate last) {
+        Timestamp from = Timestamp.valueOf(first.atStartOfDay());
+        Timestamp until = Timestamp.valueOf(last.plusDays(1).atStartOfDay());
+        jdbcTemplate.update(DELETE_DAYS, Date.valueOf(first), Date.valueOf(last));
+        long rows = jdbcTemplate.update(REBUILD_DAYS, from, until, from, until);
+
+        // Every rollup touching these days, each summed from the level below; days
+        // outside the range are already complete, so the sums are exact
+        for (LocalDate week = AggregatePeriod.WEEK.start(first); !week.isAfter(last);
+             week = AggregatePeriod.WEEK.next(week)) {
+            rows += rebuildPeriod(AggregatePeriod.WEEK, week, PERIOD_FROM_DAYS);
+        }
+        rows += rebuildPeriod(AggregatePeriod.MONTH, AggregatePeriod.MONTH.start(first), PERIOD_FROM_DAYS);
+        rows += rebuildPeriod(AggregatePeriod.YEAR, AggregatePeriod.YEAR.start(first), YEAR_FROM_MONTHS);
+        return rows;
+    }
+
+    private long rebuildPeriod(AggregatePeriod period, LocalDate start, String rebuildSql) {
+        Date from = Date.valueOf(start);
+        Date until = Date.valueOf(period.next(start));
+        jdbcTemplate.update(DELETE_PERIOD, period.name(), from);
+        return jdbcTemplate.update(rebuildSql, period.name(), from, from, until);
+    }
+}
@@ -0,0 +1,81 @@
+package com.securewallet.service.impl;
+
+import com.securewallet.dto.response.DashboardResponse;
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.dto.response.UserResponse;
+import com.securewallet.dto.response.WalletResponse;
+import com.securewallet.entity.Role;
+import com.securewallet.entity.User;
+import com.securewallet.exception.UserNotFoundException;
+import com.securewallet.logging.LogCategories;
+import com.securewallet.money.Money;
+import com.securewallet.repository.UserRepository;
+import com.securewallet.service.DashboardService;
+import com.securewallet.service.TransactionService;
+import com.securewallet.service.WalletService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class DashboardServiceImpl implements DashboardService {
+
+    public static final int MAX_RECENT_TRANSACTIONS = 50;
+
+    private final UserRepository userRepository;
+    private final WalletService walletService;
+    private final TransactionService transactionService;
+
+    @Override
+    @Transactional(readOnly = true)
+    @Timed(value = "securewallet.dashboard", histogram = true)
+    public DashboardResponse getDashboard(Long userId, int recentTransactions) {
+        LogCategories.DASHBOARD_READS.atInfo().addKeyValue("userId", userId).log("Building dashboard");
+        int limit = Math.max(1, Math.min(recentTransactions, MAX_RECENT_TRANSACTIONS));
+
+        // All reads share this read-only transaction and its single connection;
+        // wallets usually come straight from the wallet cache.
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UserNotFoundException(userId));
+        List<WalletResponse> wallets = walletService.getWalletsByUserId(userId);
+        List<TransactionResponse> recent = transactionService.getRecentTransactions(userId, limit);
+
+        return DashboardResponse.builder()
+                .user(mapToUserResponse(user))
+                .wallets(wallets)
+                .totalBalances(totalBalances(wallets))
+                .recentTransactions(recent)
+                .build();
+    }
+
+    private Map<String, Money> totalBalances(List<WalletResponse> wallets) {
+        Map<String, Money> totals = new TreeMap<>();
+        for (WalletResponse wallet : wallets) {
+            totals.merge(wallet.getCurrency(), wallet.getBalance(), Money::plus);
+        }
+        return totals;
+    }
+
+    private UserResponse mapToUserResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .phoneNumber(user.getPhoneNumber())
+                .status(user.getStatus())
+                .emailVerified(user.getEmailVerified())
+                .roles(user.getRoles().stream()
+                        .map(Role::getName)
+                        .collect(Collectors.toList()))
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,352 @@
+package com.securewallet.service.impl;
+
+import com.securewallet.dto.request.CreateWalletRequest;
+import com.securewallet.dto.request.OnboardingRequest;
+import com.securewallet.dto.response.OnboardingResult;
+import com.securewallet.entity.Role;
+import com.securewallet.entity.User;
+import com.securewallet.entity.Wallet;
+import com.securewallet.enums.OnboardingStatus;
+import com.securewallet.enums.UserStatus;
+import com.securewallet.pattern.factory.WalletFactoryProvider;
+import com.securewallet.repository.RoleRepository;
+import com.securewallet.repository.UserRepository;
+import com.securewallet.security.WalletOwnershipIndex;
+import com.securewallet.service.OnboardingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Set-based account onboarding: one uniqueness query per batch, BCrypt hashing
+ * fanned out over a dedicated pool, and users, their roles and their wallets
+ * written with JDBC batch inserts in one transaction per batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OnboardingServiceImpl implements OnboardingService {
+
+    private static final String INSERT_USER = "INSERT INTO users (email, password, first_name, last_name, " +
+            "phone_number, status, email_verified, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+    private static final String INSERT_USER_ROLE = "INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)";
+    private static final String INSERT_WALLET = "INSERT INTO wallets (user_id, wallet_number, name, wallet_type, " +
+            "balance, minimum_balance, interest_rate, daily_transaction_limit, currency, status, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final WalletFactoryProvider factoryProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final WalletOwnershipIndex ownershipIndex;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.onboarding.batch-size:500}")
+    private int batchSize;
+
+    @Value("${securewallet.onboarding.hashing-threads:0}")
+    private int hashingThreads;
+
+    private ExecutorService hashingExecutor;
+    private TransactionTemplate batchTransaction;
+    private final AtomicLong lastWalletNumberMillis = new AtomicLong();
+    private final Map<OnboardingStatus, Counter> accountCounters = new EnumMap<>(OnboardingStatus.class);
+
+    @PostConstruct
+    public void init() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        hashingExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "onboarding-hash-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        batchTransaction = new TransactionTemplate(transactionManager);
+        for (OnboardingStatus status : OnboardingStatus.values()) {
+            accountCounters.put(status, Counter.builder("securewallet.onboarding.accounts")
+                    .description("Accounts processed by bulk onboarding")
+                    .tag("status", status.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdownNow();
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public List<OnboardingResult> onboardBatch(List<OnboardingRequest> batch, long firstRecord) {
+        OnboardingResult[] results = new OnboardingResult[batch.size()];
+        List<Integer> accepted = new ArrayList<>(batch.size());
+        Set<String> emailsInBatch = new HashSet<>();
+
+        for (int i = 0; i < batch.size(); i++) {
+            OnboardingRequest request = batch.get(i);
+            String invalid = validate(request);
+            if (invalid != null) {
+                results[i] = result(firstRecord + i, request, OnboardingStatus.INVALID, invalid);
+            } else if (!emailsInBatch.add(request.getEmail())) {
+                results[i] = result(firstRecord + i, request, OnboardingStatus.DUPLICATE,
+                        "Email appears earlier in the stream");
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        if (!emailsInBatch.isEmpty()) {
+            // Checked on the primary so the previous batch's commit is always visible
+            Set<String> existing = new HashSet<>(batchTransaction.execute(status ->
+                    userRepository.findExistingEmails(emailsInBatch)));
+            accepted.removeIf(i -> {
+                if (existing.contains(batch.get(i).getEmail())) {
+                    results[i] = result(firstRecord + i, batch.get(i), OnboardingStatus.DUPLICATE,
+                            "Email already registered");
+                    return true;
+                }
+                return false;
+            });
+        }
+
+        if (!accepted.isEmpty()) {
+            insertAccounts(batch, accepted, firstRecord, results);
+        }
+
+        for (OnboardingResult result : results) {
+            accountCounters.get(result.getStatus()).increment();
+        }
+        return Arrays.asList(results);
+    }
+
+    private void insertAccounts(List<OnboardingRequest> batch, List<Integer> accepted, long firstRecord,
+                                OnboardingResult[] results) {
+        List<CompletableFuture<String>> hashes = accepted.stream()
+                .map(i -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(batch.get(i).getPassword()), hashingExecutor))
+                .collect(Collectors.toList());
+        CompletableFuture.allOf(hashes.toArray(new CompletableFuture<?>[0])).join();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int n = 0; n < accepted.size(); n++) {
+            OnboardingRequest request = batch.get(accepted.get(n));
+            users.add(User.builder()
+                    .email(request.getEmail())
+                    .password(hashes.get(n).join())
+                    .firstName(request.getFirstName())
+                    .lastName(request.getLastName())
+                    .phoneNumber(request.getPhoneNumber())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+
+        persist(batch, accepted, users, firstRecord, results, now);
+    }
+
+    /**
+     * Writes the accounts in one transaction. A unique-index conflict, e.g. a
+     * registration that committed after the existence check, rolls the batch
+     * back; its accounts are then retried one by one so only the conflicting
+     * account is reported.
+     */
+    private void persist(List<OnboardingRequest> batch, List<Integer> accepted, List<User> users,
+                         long firstRecord, OnboardingResult[] results, LocalDateTime now) {
+        try {
+            List<List<Wallet>> wallets = batchTransaction.execute(status -> {
+                Role userRole = roleRepository.findByName("ROLE_USER")
+                        .orElseThrow(() -> new IllegalStateException("Default role not found"));
+                long[] userIds = insertReturningIds(INSERT_USER, users, (ps, user) -> {
+                    ps.setString(1, user.getEmail());
+                    ps.setString(2, user.getPassword());
+                    ps.setString(3, user.getFirstName());
+                    ps.setString(4, user.getLastName());
+                    ps.setString(5, user.getPhoneNumber());
+                    ps.setString(6, UserStatus.ACTIVE.name());
+                    ps.setBoolean(7, false);
+                    ps.setTimestamp(8, Timestamp.valueOf(now));
+                    ps.setTimestamp(9, Timestamp.valueOf(now));
+                });
+                for (int n = 0; n < users.size(); n++) {
+                    users.get(n).setId(userIds[n]);
+                }
+                jdbcTemplate.batchUpdate(INSERT_USER_ROLE, users, users.size(), (ps, user) -> {
+                    ps.setLong(1, user.getId());
+                    ps.setLong(2, userRole.getId());
+                });
+                return insertWallets(batch, accepted, users, now);
+            });
+
+            for (int n = 0; n < accepted.size(); n++) {
+                int i = accepted.get(n);
+                User user = users.get(n);
+                List<Long> walletIds = new ArrayList<>(wallets.get(n).size());
+                for (Wallet wallet : wallets.get(n)) {
+                    ownershipIndex.put(wallet.getId(), user.getId());
+                    walletIds.add(wallet.getId());
+                }
+                results[i] = result(firstRecord + i, batch.get(i), OnboardingStatus.CREATED, null);
+                results[i].setUserId(user.getId());
+                results[i].setWalletIds(walletIds);
+            }
+        } catch (DataIntegrityViolationException e) {
+            if (accepted.size() > 1) {
+                log.info("Onboarding batch starting at record {} hit a unique conflict, retrying {} accounts singly",
+                        firstRecord, accepted.size());
+                for (int n = 0; n < accepted.size(); n++) {
+                    persist(batch, List.of(accepted.get(n)), List.of(users.get(n)), firstRecord, results, now);
+                }
+                return;
+            }
+            int i = accepted.get(0);
+            OnboardingRequest request = batch.get(i);
+            boolean registered = Boolean.TRUE.equals(
+                    batchTransaction.execute(status -> userRepository.existsByEmail(request.getEmail())));
+            results[i] = registered
+                    ? result(firstRecord + i, request, OnboardingStatus.DUPLICATE, "Email already registered")
+                    : result(firstRecord + i, request, OnboardingStatus.FAILED,
+                            "Rejected: " + e.getMostSpecificCause().getMessage());
+        } catch (DataAccessException e) {
+            log.warn("Onboarding batch starting at record {} failed: {}", firstRecord, e.getMessage());
+            for (int i : accepted) {
+                results[i] = result(firstRecord + i, batch.get(i), OnboardingStatus.FAILED,
+                        "Batch rolled back: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private List<List<Wallet>> insertWallets(List<OnboardingRequest> batch, List<Integer> accepted,
+                                             List<User> users, LocalDateTime now) {
+        List<List<Wallet>> walletsByUser = new ArrayList<>(users.size());
+        List<Wallet> allWallets = new ArrayList<>();
+        String numberPrefix = "WB" + nextWalletNumberMillis();
+        for (int n = 0; n < users.size(); n++) {
+            List<Wallet> userWallets = new ArrayList<>();
+            List<CreateWalletRequest> requested = batch.get(accepted.get(n)).getWallets();
+            for (CreateWalletRequest walletRequest : requested != null ? requested : List.<CreateWalletRequest>of()) {
+                Wallet wallet = factoryProvider.createWallet(walletRequest.getWalletType(), users.get(n),
+                        walletRequest.getName());
+                // Bulk numbers get their own prefix so they cannot collide with W<millis><random>
+                wallet.setWalletNumber(numberPrefix + String.format("%05d", allWallets.size()));
+                userWallets.add(wallet);
+                allWallets.add(wallet);
+            }
+            walletsByUser.add(userWallets);
+        }
+        if (allWallets.isEmpty()) {
+            return walletsByUser;
+        }
+
+        long[] walletIds = insertReturningIds(INSERT_WALLET, allWallets, (ps, wallet) -> {
+            ps.setLong(1, wallet.getUser().getId());
+            ps.setString(2, wallet.getWalletNumber());
+            ps.setString(3, wallet.getName());
+            ps.setString(4, wallet.getWalletType().name());
+            ps.setBigDecimal(5, wallet.getBalance().toBigDecimal());
+            ps.setBigDecimal(6, wallet.getMinimumBalance().toBigDecimal());
+            ps.setBigDecimal(7, wallet.getInterestRate());
+            ps.setBigDecimal(8, wallet.getDailyTransactionLimit() != null
+                    ? wallet.getDailyTransactionLimit().toBigDecimal() : null);
+            ps.setString(9, wallet.getCurrency());
+            ps.setString(10, wallet.getStatus().name());
+            ps.setTimestamp(11, Timestamp.valueOf(now));
+            ps.setTimestamp(12, Timestamp.valueOf(now));
+        });
+        for (int n = 0; n < allWallets.size(); n++) {
+            allWallets.get(n).setId(walletIds[n]);
+        }
+        return walletsByUser;
+    }
+
+    private <T> long[] insertReturningIds(String sql, List<T> rows, RowBinder<T> binder) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+                for (T row : rows) {
+                    binder.bind(ps, row);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                long[] ids = new long[rows.size()];
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    int n = 0;
+                    while (keys.next()) {
+                        ids[n++] = keys.getLong(1);
+                    }
+                    if (n != ids.length) {
+                        throw new SQLException("Expected " + ids.length + " generated keys but got " + n);
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    private long nextWalletNumberMillis() {
+        return lastWalletNumberMillis.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis()));
+    }
+
+    private String validate(OnboardingRequest request) {
+        if (request == null) {
+            return "Malformed JSON record";
+        }
+        Set<ConstraintViolation<OnboardingRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static OnboardingResult result(long record, OnboardingRequest request, OnboardingStatus status,
+                                           String message) {
+        return OnboardingResult.builder()
+                .record(record)
+                .email(request != null ? request.getEmail() : null)
+                .status(status)
+                .message(message)
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface RowBinder<T> {
+        void bind(PreparedStatement ps, T row) throws SQLException;
+    }
+}
@@ -0,0 +1,482 @@
+package com.securewallet.service.impl;
+
+import com.securewallet.dto.response.ReconciliationDiscrepancyResponse;
+import com.securewallet.dto.response.ReconciliationRunResponse;
+import com.securewallet.entity.ReconciliationCheckpoint;
+import com.securewallet.entity.ReconciliationDiscrepancy;
+import com.securewallet.entity.ReconciliationRun;
+import com.securewallet.enums.ReconciliationMode;
+import com.securewallet.enums.ReconciliationStatus;
+import com.securewallet.exception.InvalidTransactionException;
+import com.securewallet.money.Money;
+import com.securewallet.repository.ReconciliationCheckpointRepository;
+import com.securewallet.repository.ReconciliationDiscrepancyRepository;
+import com.securewallet.repository.ReconciliationRunRepository;
+import com.securewallet.service.ReconciliationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Verifies every wallet's stored balance against the sum of its completed
+ * transactions.
+ * <p>
+ * A run splits the wallet id range into partitions and reconciles them on a
+ * fork-join pool, each leaf walking its range in keyset-ordered chunks and the
+ * joins adding up the tallies. Each chunk's wallets and their transaction sums
+ * are read in one read-only repeatable-read transaction, so balance and history
+ * come from the same snapshot without locking anything postings need. The
+ * discrepancies of a chunk are written together with its partition checkpoint,
+ * letting an interrupted run resume where it stopped.
+ * <p>
+ * Incremental runs only check wallets touched by transactions since the last
+ * completed run, re-reading {@code incremental-overlap} ids before it to catch
+ * transactions that committed out of id order.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReconciliationServiceImpl implements ReconciliationService {
+
+    private static final String MAX_TRANSACTION_ID = "SELECT COALESCE(MAX(id), 0) FROM transactions";
+    private static final String WALLET_ID_RANGE = "SELECT MIN(id), MAX(id) FROM wallets";
+    private static final String WALLET_CHUNK = "SELECT id, balance, currency FROM wallets " +
+            "WHERE id > ? AND id <= ? ORDER BY id LIMIT ?";
+    private static final String TOUCHED_WALLET_CHUNK = "SELECT id, balance, currency FROM wallets " +
+            "WHERE id > ? AND id <= ? AND id IN (" +
+            "SELECT source_wallet_id FROM transactions WHERE id > ? AND id <= ? " +
+            "UNION SELECT destination_wallet_id FROM transactions WHERE id > ? AND id <= ?" +
+            ") ORDER BY id LIMIT ?";
+    private static final String EXPECTED_BALANCES = "SELECT wallet_id, SUM(inflow) AS inflow, " +
+            "SUM(outflow) AS outflow, COUNT(*) AS transaction_count FROM (" +
+            "SELECT destination_wallet_id AS wallet_id, amount AS inflow, 0 AS outflow FROM transactions " +
+            "WHERE status = 'COMPLETED' AND destination_wallet_id IN (:walletIds) " +
+            "UNION ALL " +
+            "SELECT source_wallet_id, 0, amount FROM transactions " +
+            "WHERE status = 'COMPLETED' AND source_wallet_id IN (:walletIds)" +
+            ") movements GROUP BY wallet_id";
+    private static final String INSERT_DISCREPANCY = "INSERT INTO reconciliation_discrepancies (run_id, " +
+            "wallet_id, currency, recorded_balance, expected_balance, transaction_count, detected_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String ADVANCE_CHECKPOINT = "UPDATE reconciliation_checkpoints " +
+            "SET last_wallet_id = ?, wallets_checked = wallets_checked + ?, discrepancies = discrepancies + ? " +
+            "WHERE run_id = ? AND partition_no = ?";
+    private static final String COMPLETE_CHECKPOINT = "UPDATE reconciliation_checkpoints SET completed = TRUE " +
+            "WHERE run_id = ? AND partition_no = ?";
+    private static final String TOUCH_RUN = "UPDATE reconciliation_runs SET updated_at = ? WHERE id = ?";
+
+    private final ReconciliationRunRepository runRepository;
+    private final ReconciliationCheckpointRepository checkpointRepository;
+    private final ReconciliationDiscrepancyRepository discrepancyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${securewallet.reconciliation.threads:4}")
+    private int threads;
+
+    @Value("${securewallet.reconciliation.partitions:64}")
+    private int partitions;
+
+    @Value("${securewallet.reconciliation.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${securewallet.reconciliation.incremental-overlap:10000}")
+    private long incrementalOverlap;
+
+    @Value("${securewallet.reconciliation.stale-after:5m}")
+    private Duration staleAfter;
+
+    // One run per instance; other instances are kept out by the run's heartbeat
+    private final AtomicBoolean active = new AtomicBoolean();
+    private volatile boolean stopping;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate snapshotRead;
+    private ExecutorService runner;
+    private ForkJoinPool pool;
+    private Counter walletsChecked;
+    private Counter discrepanciesFound;
+
+    /** Wallets checked, transactions summed and discrepancies found. */
+    private record Tally(long wallets, long transactions, long discrepancies) {
+
+        Tally plus(Tally other) {
+            return new Tally(wallets + other.wallets, transactions + other.transactions,
+                    discrepancies + other.discrepancies);
+        }
+    }
+
+    private record WalletBalance(long walletId, long balance, String currency) {
+    }
+
+    private record Chunk(List<WalletBalance> wallets, Map<Long, long[]> expected) {
+    }
+
+    @PostConstruct
+    public void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        snapshotRead = new TransactionTemplate(transactionManager);
+        snapshotRead.setReadOnly(true);
+        snapshotRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        runner = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "reconciliation"));
+        pool = new ForkJoinPool(threads);
+        walletsChecked = Counter.builder("securewallet.reconciliation.wallets")
+                .description("Wallets whose balance was checked against their transactions")
+                .register(meterRegistry);
+        discrepanciesFound = Counter.builder("securewallet.reconciliation.discrepancies")
+                .description("Wallets found with a balance differing from their transactions")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Leaves the run RUNNING with its checkpoints, to be resumed by a later start
+        stopping = true;
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Starts a run in the background, or resumes the unfinished one if its
+     * instance has stopped, in which case {@code mode} is ignored.
+     */
+    @Override
+    public ReconciliationRunResponse start(ReconciliationMode mode) {
+        if (!active.compareAndSet(false, true)) {
+            throw new InvalidTransactionException("A reconciliation run is already in progress");
+        }
+        try {
+            ReconciliationRun run = writeTransaction.execute(status -> prepare(mode));
+            runner.execute(() -> {
+                try {
+                    execute(run.getId());
+                } finally {
+                    active.set(false);
+                }
+            });
+            return toResponse(run);
+        } catch (RuntimeException e) {
+            active.set(false);
+            throw e;
+        }
+    }
+
+    @Scheduled(cron = "${securewallet.reconciliation.full-cron:0 30 1 * * *}")
+    public void reconcileNightly() {
+        startScheduled(ReconciliationMode.FULL);
+    }
+
+    @Scheduled(fixedDelayString = "${securewallet.reconciliation.incremental-interval:900000}",
+            initialDelayString = "${securewallet.reconciliation.incremental-interval:900000}")
+    public void reconcileRecent() {
+        startScheduled(ReconciliationMode.INCREMENTAL);
+    }
+
+    @Override
+    public ReconciliationRunResponse getRun(Long runId) {
+        return toResponse(findRun(runId));
+    }
+
+    @Override
+    public Page<ReconciliationDiscrepancyResponse> getDiscrepancies(Long runId, Pageable pageable) {
+        findRun(runId);
+        return discrepancyRepository.findByRunIdOrderByWalletId(runId, pageable)
+                .map(this::toResponse);
+    }
+
+    private void startScheduled(ReconciliationMode mode) {
+        try {
+            start(mode);
+        } catch (InvalidTransactionException e) {
+            log.debug("Skipping scheduled {} reconciliation: {}", mode, e.getMessage());
+        }
+    }
+
+    private ReconciliationRun prepare(ReconciliationMode mode) {
+        LocalDateTime now = LocalDateTime.now();
+        ReconciliationRun unfinished = runRepository.findFirstByStatusOrderByIdDesc(ReconciliationStatus.RUNNING)
+                .orElse(null);
+        if (unfinished != null) {
+            if (unfinished.getUpdatedAt().isAfter(now.minus(staleAfter))) {
+                throw new InvalidTransactionException(
+                        "Reconciliation run " + unfinished.getId() + " is in progress on another instance");
+            }
+            log.info("Resuming {} reconciliation run {} from its checkpoints",
+                    unfinished.getMode(), unfinished.getId());
+            unfinished.setUpdatedAt(now);
+            return unfinished;
+        }
+
+        long toTransactionId = jdbcTemplate.queryForObject(MAX_TRANSACTION_ID, Long.class);
+        long fromTransactionId = mode == ReconciliationMode.FULL ? 0 : runRepository
+                .findFirstByStatusOrderByIdDesc(ReconciliationStatus.COMPLETED)
+                .map(last -> Math.max(0, last.getToTransactionId() - incrementalOverlap))
+                .orElse(0L);
+        List<long[]> ranges = partition();
+        ReconciliationRun run = runRepository.save(ReconciliationRun.builder()
+                .mode(mode)
+                .status(ReconciliationStatus.RUNNING)
+                .fromTransactionId(fromTransactionId)
+                .toTransactionId(toTransactionId)
+                .partitions(ranges.size())
+                .startedAt(now)
+                .updatedAt(now)
+                .build());
+        List<ReconciliationCheckpoint> checkpoints = new ArrayList<>(ranges.size());
+        for (int i = 0; i < ranges.size(); i++) {
+            checkpoints.add(ReconciliationCheckpoint.builder()
+                    .runId(run.getId())
+                    .partition(i)
+                    .rangeStart(ranges.get(i)[0])
+                    .rangeEnd(ranges.get(i)[1])
+                    .lastWalletId(ranges.get(i)[0] - 1)
+                    .build());
+        }
+        checkpointRepository.saveAll(checkpoints);
+        log.info("Started {} reconciliation run {} over {} partitions", mode, run.getId(), ranges.size());
+        return run;
+    }
+
+    /**
+     * Splits the current wallet id range into up to {@code partitions} equal,
+     * inclusive ranges; wallets created later are left to the next run.
+     */
+    private List<long[]> partition() {
+        long[] bounds = jdbcTemplate.queryForObject(WALLET_ID_RANGE, (rs, rowNum) ->
+                rs.getObject(1) == null ? null : new long[]{rs.getLong(1), rs.getLong(2)});
+        List<long[]> ranges = new ArrayList<>();
+        if (bounds == null) {
+            return ranges;
+        }
+        long span = bounds[1] - bounds[0] + 1;
+        long width = Math.max(chunkSize, (span + partitions - 1) / partitions);
+        for (long start = bounds[0]; start <= bounds[1]; start += width) {
+            ranges.add(new long[]{start, Math.min(start + width - 1, bounds[1])});
+        }
+        return ranges;
+    }
+
+    private void execute(Long runId) {
+        long start = System.nanoTime();
+        try {
+            ReconciliationRun run = findRun(runId);
+            List<ReconciliationCheckpoint> checkpoints = checkpointRepository.findByRunIdOrderByPartition(runId);
+            Tally tally = checkpoints.isEmpty()
+                    ? new Tally(0, 0, 0)
+                    : pool.invoke(new PartitionTask(run, checkpoints, 0, checkpoints.size()));
+            writeTransaction.executeWithoutResult(status -> {
+                ReconciliationRun completed = findRun(runId);
+                completed.setStatus(ReconciliationStatus.COMPLETED);
+                completed.setWalletsChecked(tally.wallets());
+                completed.setDiscrepancyCount(tally.discrepancies());
+                completed.setCompletedAt(LocalDateTime.now());
+                completed.setUpdatedAt(completed.getCompletedAt());
+            });
+            log.info("Reconciliation run {} checked {} wallets and {} transactions in {} ms: {} discrepancies",
+                    runId, tally.wallets(), tally.transactions(), (System.nanoTime() - start) / 1_000_000,
+                    tally.discrepancies());
+        } catch (CancellationException e) {
+            log.info("Reconciliation run {} stopped; it resumes from its checkpoints on the next start", runId);
+        } catch (RuntimeException e) {
+            if (stopping) {
+                log.info("Reconciliation run {} interrupted by shutdown", runId);
+                return;
+            }
+            log.error("Reconciliation run {} failed", runId, e);
+            String message = String.valueOf(e.getMessage());
+            writeTransaction.executeWithoutResult(status -> {
+                ReconciliationRun failed = findRun(runId);
+                failed.setStatus(ReconciliationStatus.FAILED);
+                failed.setFailureMessage(message.length() > 500 ? message.substring(0, 500) : message);
+                failed.setUpdatedAt(LocalDateTime.now());
+            });
+        }
+    }
+
+    /**
+     * Reconciles a slice of the partitions: a single partition directly, more by
+     * forking halves and adding up their tallies.
+     */
+    private final class PartitionTask extends RecursiveTask<Tally> {
+        private final ReconciliationRun run;
+        private final List<ReconciliationCheckpoint> checkpoints;
+        private final int from;
+        private final int to;
+
+        PartitionTask(ReconciliationRun run, List<ReconciliationCheckpoint> checkpoints, int from, int to) {
+            this.run = run;
+            this.checkpoints = checkpoints;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from == 1) {
+                return reconcilePartition(run, checkpoints.get(from));
+            }
+            int mid = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(run, checkpoints, from, mid);
+            left.fork();
+            Tally right = new PartitionTask(run, checkpoints, mid, to).compute();
+            return right.plus(left.join());
+        }
+    }
+
+    private Tally reconcilePartition(ReconciliationRun run, ReconciliationCheckpoint checkpoint) {
+        // Counts from before a resume carry over; transactions are counted for this pass only
+        Tally tally = new Tally(checkpoint.getWalletsChecked(), 0, checkpoint.getDiscrepancies());
+        if (checkpoint.isCompleted()) {
+            return tally;
+        }
+        long after = checkpoint.getLastWalletId();
+        while (true) {
+            if (stopping) {
+                throw new CancellationException();
+            }
+            long cursor = after;
+            Chunk chunk = snapshotRead.execute(status -> readChunk(run, cursor, checkpoint.getRangeEnd()));
+            if (chunk.wallets().isEmpty()) {
+                break;
+            }
+            Tally found = check(run, checkpoint, chunk);
+            tally = tally.plus(found);
+            after = chunk.wallets().get(chunk.wallets().size() - 1).walletId();
+        }
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update(COMPLETE_CHECKPOINT, run.getId(), checkpoint.getPartition()));
+        return tally;
+    }
+
+    private Chunk readChunk(ReconciliationRun run, long after, long rangeEnd) {
+        List<WalletBalance> wallets = run.getMode() == ReconciliationMode.FULL
+                ? jdbcTemplate.query(WALLET_CHUNK, (rs, rowNum) -> walletBalance(rs), after, rangeEnd, chunkSize)
+                : jdbcTemplate.query(TOUCHED_WALLET_CHUNK, (rs, rowNum) -> walletBalance(rs), after, rangeEnd,
+                        run.getFromTransactionId(), run.getToTransactionId(),
+                        run.getFromTransactionId(), run.getToTransactionId(), chunkSize);
+        Map<Long, long[]> expected = new HashMap<>();
+        if (wallets.isEmpty()) {
+            return new Chunk(wallets, expected);
+        }
+        List<Long> walletIds = new ArrayList<>(wallets.size());
+        for (WalletBalance wallet : wallets) {
+            walletIds.add(wallet.walletId());
+        }
+        namedParameterJdbcTemplate.query(EXPECTED_BALANCES, new MapSqlParameterSource("walletIds", walletIds), rs -> {
+            long balance = Money.toMinorUnits(rs.getBigDecimal("inflow"))
+                    - Money.toMinorUnits(rs.getBigDecimal("outflow"));
+            expected.put(rs.getLong("wallet_id"), new long[]{balance, rs.getLong("transaction_count")});
+        });
+        return new Chunk(wallets, expected);
+    }
+
+    private static WalletBalance walletBalance(ResultSet rs) throws SQLException {
+        return new WalletBalance(rs.getLong("id"), Money.toMinorUnits(rs.getBigDecimal("balance")),
+                rs.getString("currency"));
+    }
+
+    /**
+     * Compares a chunk and records its discrepancies and checkpoint in one
+     * transaction.
+     */
+    private Tally check(ReconciliationRun run, ReconciliationCheckpoint checkpoint, Chunk chunk) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> discrepancies = new ArrayList<>();
+        long transactions = 0;
+        for (WalletBalance wallet : chunk.wallets()) {
+            long[] expected = chunk.expected().getOrDefault(wallet.walletId(), new long[2]);
+            transactions += expected[1];
+            if (expected[0] != wallet.balance()) {
+                discrepancies.add(new Object[]{run.getId(), wallet.walletId(), wallet.currency(),
+                        Money.ofMinor(wallet.balance(), wallet.currency()).toBigDecimal(),
+                        Money.ofMinor(expected[0], wallet.currency()).toBigDecimal(),
+                        expected[1], now});
+            }
+        }
+        long lastWalletId = chunk.wallets().get(chunk.wallets().size() - 1).walletId();
+        writeTransaction.executeWithoutResult(status -> {
+            if (!discrepancies.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_DISCREPANCY, discrepancies);
+            }
+            jdbcTemplate.update(ADVANCE_CHECKPOINT, lastWalletId, chunk.wallets().size(), discrepancies.size(),
+                    run.getId(), checkpoint.getPartition());
+            jdbcTemplate.update(TOUCH_RUN, now, run.getId());
+        });
+        walletsChecked.increment(chunk.wallets().size());
+        if (!discrepancies.isEmpty()) {
+            discrepanciesFound.increment(discrepancies.size());
+            log.warn("Reconciliation run {} found {} wallets with a balance differing from their transactions",
+                    run.getId(), discrepancies.size());
+        }
+        return new Tally(chunk.wallets().size(), transactions, discrepancies.size());
+    }
+
+    private ReconciliationRun findRun(Long runId) {
+        return runRepository.findById(runId)
+                .orElseThrow(() -> new InvalidTransactionException("Reconciliation run not found: " + runId));
+    }
+
+    private ReconciliationRunResponse toResponse(ReconciliationRun run) {
+        // Totals are written when the run completes; until then they come from the checkpoints
+        boolean running = run.getStatus() == ReconciliationStatus.RUNNING;
+        return ReconciliationRunResponse.builder()
+                .id(run.getId())
+                .mode(run.getMode())
+                .status(run.getStatus())
+                .fromTransactionId(run.getFromTransactionId())
+                .toTransactionId(run.getToTransactionId())
+                .partitions(run.getPartitions())
+                .partitionsCompleted(checkpointRepository.countByRunIdAndCompletedTrue(run.getId()))
+                .walletsChecked(running
+                        ? checkpointRepository.sumWalletsChecked(run.getId()) : run.getWalletsChecked())
+                .discrepancyCount(running
+                        ? checkpointRepository.sumDiscrepancies(run.getId()) : run.getDiscrepancyCount())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .failureMessage(run.getFailureMessage())
+                .build();
+    }
+
+    private ReconciliationDiscrepancyResponse toResponse(ReconciliationDiscrepancy discrepancy) {
+        return ReconciliationDiscrepancyResponse.builder()
+                .walletId(discrepancy.getWalletId())
+                .recordedBalance(discrepancy.getRecordedBalance())
+                .expectedBalance(discrepancy.getExpectedBalance())
+                .difference(discrepancy.getRecordedBalance().minus(discrepancy.getExpectedBalance()))
+                .transactionCount(discrepancy.getTransactionCount())
+                .detectedAt(discrepancy.getDetectedAt())
+                .build();
+    }
+}
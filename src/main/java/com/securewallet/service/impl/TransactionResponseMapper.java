@@ -0,0 +1,31 @@
+package com.securewallet.service.impl;
+
+import com.securewallet.dto.response.TransactionResponse;
+import com.securewallet.entity.Transaction;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TransactionResponseMapper {
+
+    public TransactionResponse toResponse(Transaction transaction) {
+        return TransactionResponse.builder()
+                .id(transaction.getId())
+                .referenceNumber(transaction.getReferenceNumber())
+                .sourceWalletId(transaction.getSourceWallet() != null ?
+                        transaction.getSourceWallet().getId() : null)
+                .sourceWalletName(transaction.getSourceWallet() != null ?
+                        transaction.getSourceWallet().getName() : null)
+                .destinationWalletId(transaction.getDestinationWallet() != null ?
+                        transaction.getDestinationWallet().getId() : null)
+                .destinationWalletName(transaction.getDestinationWallet() != null ?
+                        transaction.getDestinationWallet().getName() : null)
+                .amount(transaction.getAmount())
+                .fee(transaction.getFee())
+                .type(transaction.getType())
+                .status(transaction.getStatus())
+                .description(transaction.getDescription())
+                .createdAt(transaction.getCreatedAt())
+                .completedAt(transaction.getCompletedAt())
+                .build();
+    }
+}
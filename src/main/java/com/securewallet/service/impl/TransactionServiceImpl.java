@@ -1,5 +1,8 @@
 package com.securewallet.service.impl;
 
+import com.securewallet.aggregate.AggregateBuffer;
+import com.securewallet.cache.RecentActivityCache;
+import com.securewallet.cache.RecentActivityCache.Snapshot;
 import com.securewallet.dto.request.DepositRequest;
 import com.securewallet.dto.request.TransferRequest;
 import com.securewallet.dto.request.WithdrawRequest;
@@ -8,48 +11,101 @@ import com.securewallet.entity.Transaction;
 import com.securewallet.entity.Wallet;
 import com.securewallet.enums.TransactionStatus;
 import com.securewallet.enums.TransactionType;
+import com.securewallet.event.TransactionPostedEvent;
+import com.securewallet.event.WalletChangedEvent;
 import com.securewallet.exception.InsufficientBalanceException;
 import com.securewallet.exception.InvalidTransactionException;
 import com.securewallet.exception.UnauthorizedAccessException;
 import com.securewallet.exception.WalletNotFoundException;
+import com.securewallet.logging.LogCategories;
+import com.securewallet.money.Money;
+import com.securewallet.outbox.Outbox;
+import com.securewallet.outbox.TransactionPosting;
 import com.securewallet.repository.TransactionRepository;
+import com.securewallet.repository.TransactionRepository.TransactionVersion;
 import com.securewallet.repository.WalletRepository;
+import com.securewallet.search.SearchTokenizer;
+import com.securewallet.search.TransactionSearchIndex;
+import com.securewallet.security.WalletOwnershipIndex;
 import com.securewallet.service.TransactionService;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final WalletRepository walletRepository;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WalletOwnershipIndex ownershipIndex;
+    private final RecentActivityCache recentActivity;
+    private final PlatformTransactionManager transactionManager;
+    private final AggregateBuffer aggregates;
+    private final TransactionSearchIndex searchIndex;
+    private final Outbox outbox;
+    private final TransactionResponseMapper responseMapper;
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    private static final int MAX_SEARCH_TERMS = 8;
+
+    private Timer lockWaitTimer;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate primaryRead;
+
+    @PostConstruct
+    public void init() {
+        lockWaitTimer = Timer.builder("securewallet.wallet.lock.wait")
+                .description("Time spent acquiring the pessimistic wallet row lock")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        // Not read-only, so routed to the primary
+        primaryRead = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     @Transactional
+    @Timed(value = "securewallet.transactions", extraTags = {"operation", "deposit"}, histogram = true)
     public TransactionResponse deposit(DepositRequest request, Long userId) {
-        log.info("Processing deposit of {} to wallet {}", request.getAmount(), request.getWalletId());
-
-        Wallet wallet = walletRepository.findByIdWithLock(request.getWalletId())
-                .orElseThrow(() -> new WalletNotFoundException(request.getWalletId()));
+        ownershipIndex.checkNotForeign(request.getWalletId(), userId);
+        Wallet wallet = lockWallet(request.getWalletId());
 
         validateWalletOwnership(wallet, userId);
         validateWalletActive(wallet);
 
-        wallet.credit(request.getAmount());
+        Money amount = Money.of(request.getAmount(), wallet.getCurrency());
+        wallet.credit(amount);
         walletRepository.save(wallet);
+        eventPublisher.publishEvent(WalletChangedEvent.updated(wallet));
 
         Transaction transaction = Transaction.builder()
                 .destinationWallet(wallet)
-                .amount(request.getAmount())
+                .amount(amount)
                 .type(TransactionType.DEPOSIT)
                 .status(TransactionStatus.COMPLETED)
                 .description(request.getDescription() != null ? request.getDescription() : "Deposit")
@@ -57,32 +113,32 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
-        log.info("Deposit completed successfully. Transaction ID: {}", saved.getId());
 
-        return mapToTransactionResponse(saved);
+        return posted(saved);
     }
 
     @Override
     @Transactional
+    @Timed(value = "securewallet.transactions", extraTags = {"operation", "withdraw"}, histogram = true)
     public TransactionResponse withdraw(WithdrawRequest request, Long userId) {
-        log.info("Processing withdrawal of {} from wallet {}", request.getAmount(), request.getWalletId());
-
-        Wallet wallet = walletRepository.findByIdWithLock(request.getWalletId())
-                .orElseThrow(() -> new WalletNotFoundException(request.getWalletId()));
+        ownershipIndex.checkNotForeign(request.getWalletId(), userId);
+        Wallet wallet = lockWallet(request.getWalletId());
 
         validateWalletOwnership(wallet, userId);
         validateWalletActive(wallet);
 
-        if (wallet.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new InsufficientBalanceException(wallet.getId(), request.getAmount());
+        Money amount = Money.of(request.getAmount(), wallet.getCurrency());
+        if (!wallet.canCover(amount)) {
+            throw new InsufficientBalanceException(wallet.getId(), amount);
         }
 
-        wallet.debit(request.getAmount());
+        wallet.debit(amount);
         walletRepository.save(wallet);
+        eventPublisher.publishEvent(WalletChangedEvent.updated(wallet));
 
         Transaction transaction = Transaction.builder()
                 .sourceWallet(wallet)
-                .amount(request.getAmount())
+                .amount(amount)
                 .type(TransactionType.WITHDRAWAL)
                 .status(TransactionStatus.COMPLETED)
                 .description(request.getDescription() != null ? request.getDescription() : "Withdrawal")
@@ -90,45 +146,47 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
-        log.info("Withdrawal completed successfully. Transaction ID: {}", saved.getId());
 
-        return mapToTransactionResponse(saved);
+        return posted(saved);
     }
 
     @Override
     @Transactional
+    @Timed(value = "securewallet.transactions", extraTags = {"operation", "transfer"}, histogram = true)
     public TransactionResponse transfer(TransferRequest request, Long userId) {
-        log.info("Processing transfer of {} from wallet {} to wallet {}",
-                request.getAmount(), request.getSourceWalletId(), request.getDestinationWalletId());
-
         if (request.getSourceWalletId().equals(request.getDestinationWalletId())) {
             throw new InvalidTransactionException("Source and destination wallets cannot be the same");
         }
 
-        Wallet sourceWallet = walletRepository.findByIdWithLock(request.getSourceWalletId())
-                .orElseThrow(() -> new WalletNotFoundException(request.getSourceWalletId()));
-
-        Wallet destWallet = walletRepository.findByIdWithLock(request.getDestinationWalletId())
-                .orElseThrow(() -> new WalletNotFoundException(request.getDestinationWalletId()));
+        ownershipIndex.checkNotForeign(request.getSourceWalletId(), userId);
+        Wallet sourceWallet = lockWallet(request.getSourceWalletId());
+        Wallet destWallet = lockWallet(request.getDestinationWalletId());
 
         validateWalletOwnership(sourceWallet, userId);
         validateWalletActive(sourceWallet);
         validateWalletActive(destWallet);
 
-        if (sourceWallet.getBalance().compareTo(request.getAmount()) < 0) {
-            throw new InsufficientBalanceException(sourceWallet.getId(), request.getAmount());
+        if (!sourceWallet.getCurrency().equals(destWallet.getCurrency())) {
+            throw new InvalidTransactionException("Transfers between wallets in different currencies are not supported");
+        }
+
+        Money amount = Money.of(request.getAmount(), sourceWallet.getCurrency());
+        if (!sourceWallet.canCover(amount)) {
+            throw new InsufficientBalanceException(sourceWallet.getId(), amount);
         }
 
-        sourceWallet.debit(request.getAmount());
-        destWallet.credit(request.getAmount());
+        sourceWallet.debit(amount);
+        destWallet.credit(amount);
 
         walletRepository.save(sourceWallet);
         walletRepository.save(destWallet);
+        eventPublisher.publishEvent(WalletChangedEvent.updated(sourceWallet));
+        eventPublisher.publishEvent(WalletChangedEvent.updated(destWallet));
 
         Transaction transaction = Transaction.builder()
                 .sourceWallet(sourceWallet)
                 .destinationWallet(destWallet)
-                .amount(request.getAmount())
+                .amount(amount)
                 .type(TransactionType.TRANSFER)
                 .status(TransactionStatus.COMPLETED)
                 .description(request.getDescription() != null ? request.getDescription() : "Transfer")
@@ -136,60 +194,204 @@ public class TransactionServiceImpl implements TransactionService {
                 .build();
 
         Transaction saved = transactionRepository.save(transaction);
-        log.info("Transfer completed successfully. Transaction ID: {}", saved.getId());
 
-        return mapToTransactionResponse(saved);
+        return posted(saved);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Timed(value = "securewallet.transactions", extraTags = {"operation", "history"}, histogram = true)
     public Page<TransactionResponse> getTransactions(Long userId, Long walletId, TransactionType type,
                                                       LocalDate startDate, LocalDate endDate, Pageable pageable) {
-        log.info("Getting transactions for user {}", userId);
+        LogCategories.TRANSACTION_READS.atInfo()
+                .addKeyValue("userId", userId)
+                .addKeyValue("walletId", walletId)
+                .log("Getting transactions");
+
+        if (walletId != null) {
+            ownershipIndex.checkNotForeign(walletId, userId);
+            if (ownershipIndex.ownerOf(walletId) != userId) {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    Wallet wallet = walletRepository.findById(walletId)
+                            .orElseThrow(() -> new WalletNotFoundException(walletId));
+                    validateWalletOwnership(wallet, userId);
+                });
+            }
+            if (isFirstPage(pageable)) {
+                Snapshot recent = recentActivity.get(walletId, this::loadRecentActivity);
+                if (pageable.getPageSize() <= recent.transactions().size()
+                        || recent.totalElements() <= recent.transactions().size()) {
+                    List<TransactionResponse> content = recent.transactions().subList(0,
+                            Math.min(pageable.getPageSize(), recent.transactions().size()));
+                    return new PageImpl<>(content, pageable, recent.totalElements());
+                }
+            }
+            return readOnlyTransaction.execute(status ->
+                    transactionRepository.findByWalletId(walletId, pageable).map(responseMapper::toResponse));
+        }
 
         LocalDateTime startDateTime = startDate != null ? startDate.atStartOfDay() : null;
         LocalDateTime endDateTime = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+        return readOnlyTransaction.execute(status ->
+                transactionRepository.findByUserIdWithFilters(userId, type, startDateTime, endDateTime, pageable)
+                        .map(responseMapper::toResponse));
+    }
 
-        Page<Transaction> transactions;
-        if (walletId != null) {
-            Wallet wallet = walletRepository.findById(walletId)
-                    .orElseThrow(() -> new WalletNotFoundException(walletId));
-            validateWalletOwnership(wallet, userId);
-            transactions = transactionRepository.findByWalletId(walletId, pageable);
-        } else {
-            transactions = transactionRepository.findByUserIdWithFilters(userId, type, startDateTime, endDateTime, pageable);
+    /**
+     * Matches every word of the query as a prefix of a description or reference
+     * number word, newest first. The index applies the type and date filters, so
+     * only the requested page is loaded.
+     */
+    @Override
+    @Timed(value = "securewallet.transactions", extraTags = {"operation", "search"}, histogram = true)
+    public Page<TransactionResponse> searchTransactions(Long userId, String query, TransactionType type,
+                                                         LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            throw new InvalidTransactionException("Search query must contain letters or digits");
         }
-
-        return transactions.map(this::mapToTransactionResponse);
+        if (terms.size() > MAX_SEARCH_TERMS) {
+            throw new InvalidTransactionException("Search query is limited to " + MAX_SEARCH_TERMS + " words");
+        }
+        LogCategories.TRANSACTION_READS.atInfo()
+                .addKeyValue("userId", userId)
+                .addKeyValue("terms", terms.size())
+                .log("Searching transactions");
+
+        long[] ids = searchIndex.search(userId, terms, type, startDate, endDate);
+        int from = (int) Math.min(pageable.getOffset(), ids.length);
+        int to = Math.min(from + pageable.getPageSize(), ids.length);
+        if (from == to) {
+            return new PageImpl<>(List.of(), pageable, ids.length);
+        }
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(ids[i]);
+        }
+        List<TransactionResponse> content = readOnlyTransaction.execute(status -> {
+            Map<Long, Transaction> found = new HashMap<>();
+            for (Transaction transaction : transactionRepository.findWithWalletsByIdIn(pageIds)) {
+                found.put(transaction.getId(), transaction);
+            }
+            List<TransactionResponse> page = new ArrayList<>(pageIds.size());
+            for (Long id : pageIds) {
+                Transaction transaction = found.get(id);
+                if (transaction != null && isParticipant(transaction, userId)) {
+                    page.add(responseMapper.toResponse(transaction));
+                }
+            }
+            return page;
+        });
+        return new PageImpl<>(content, pageable, ids.length);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Timed(value = "securewallet.transactions", extraTags = {"operation", "get"}, histogram = true)
     public TransactionResponse getTransactionById(Long transactionId, Long userId) {
-        log.info("Getting transaction {} for user {}", transactionId, userId);
+        LogCategories.TRANSACTION_READS.atInfo()
+                .addKeyValue("transactionId", transactionId)
+                .addKeyValue("userId", userId)
+                .log("Getting transaction");
 
         Transaction transaction = transactionRepository.findById(transactionId)
                 .orElseThrow(() -> new InvalidTransactionException("Transaction not found: " + transactionId));
 
-        boolean hasAccess = false;
-        if (transaction.getSourceWallet() != null &&
-                transaction.getSourceWallet().getUser().getId().equals(userId)) {
-            hasAccess = true;
-        }
-        if (transaction.getDestinationWallet() != null &&
-                transaction.getDestinationWallet().getUser().getId().equals(userId)) {
-            hasAccess = true;
+        if (!isParticipant(transaction, userId)) {
+            throw new UnauthorizedAccessException("You don't have access to this transaction");
         }
 
-        if (!hasAccess) {
+        return responseMapper.toResponse(transaction);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TransactionResponse> getRecentTransactions(Long userId, int limit) {
+        return transactionRepository.findRecentByUserId(userId, PageRequest.of(0, limit)).stream()
+                .map(responseMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Long getTransactionVersion(Long transactionId, Long userId) {
+        TransactionVersion version = transactionRepository.findVersionById(transactionId)
+                .orElseThrow(() -> new InvalidTransactionException("Transaction not found: " + transactionId));
+
+        if (!isOwnedBy(version.getSourceWalletId(), userId) && !isOwnedBy(version.getDestinationWalletId(), userId)) {
             throw new UnauthorizedAccessException("You don't have access to this transaction");
         }
+        return version.getVersion();
+    }
+
+    @TransactionalEventListener
+    public void onTransactionPosted(TransactionPostedEvent event) {
+        TransactionResponse transaction = event.transaction();
+        recentActivity.record(transaction);
+        aggregates.record(transaction);
+        searchIndex.record(transaction);
+    }
+
+    private TransactionResponse posted(Transaction transaction) {
+        TransactionResponse response = responseMapper.toResponse(transaction);
+        // Durable, for consumers that must see every posting; the event below is best effort
+        TransactionPosting posting = TransactionPosting.from(response);
+        for (Long walletId : posting.walletIds()) {
+            outbox.append(TransactionPosting.EVENT_TYPE, walletId, posting);
+        }
+        eventPublisher.publishEvent(new TransactionPostedEvent(response));
+        return response;
+    }
+
+    /**
+     * Reads from the primary: a buffer loaded from a lagging replica would miss
+     * commits whose appends were skipped because no buffer existed yet, and it
+     * would keep missing them until it expires.
+     */
+    private Snapshot loadRecentActivity(Long walletId) {
+        return primaryRead.execute(status -> {
+            List<TransactionResponse> recent = transactionRepository
+                    .findTop10ByWalletId(walletId, PageRequest.of(0, recentActivity.capacity())).stream()
+                    .map(responseMapper::toResponse)
+                    .collect(Collectors.toList());
+            long total = recent.size() < recentActivity.capacity()
+                    ? recent.size()
+                    : transactionRepository.countByWalletId(walletId);
+            return new Snapshot(recent, total);
+        });
+    }
+
+    private static boolean isFirstPage(Pageable pageable) {
+        return pageable.isPaged() && pageable.getPageNumber() == 0
+                && (pageable.getSort().isUnsorted() || pageable.getSort().equals(NEWEST_FIRST));
+    }
+
+    private boolean isParticipant(Transaction transaction, Long userId) {
+        return (transaction.getSourceWallet() != null
+                && ownershipIndex.isOwnedBy(transaction.getSourceWallet(), userId))
+                || (transaction.getDestinationWallet() != null
+                && ownershipIndex.isOwnedBy(transaction.getDestinationWallet(), userId));
+    }
+
+    private boolean isOwnedBy(Long walletId, Long userId) {
+        if (walletId == null) {
+            return false;
+        }
+        long owner = ownershipIndex.ownerOf(walletId);
+        if (owner == WalletOwnershipIndex.NO_OWNER) {
+            owner = walletRepository.findVersionById(walletId)
+                    .map(WalletRepository.WalletVersion::getUserId)
+                    .orElse(WalletOwnershipIndex.NO_OWNER);
+        }
+        return owner == userId;
+    }
 
-        return mapToTransactionResponse(transaction);
+    private Wallet lockWallet(Long walletId) {
+        return lockWaitTimer.record(() -> walletRepository.findByIdWithLock(walletId))
+                .orElseThrow(() -> new WalletNotFoundException(walletId));
     }
 
     private void validateWalletOwnership(Wallet wallet, Long userId) {
-        if (!wallet.getUser().getId().equals(userId)) {
+        if (!ownershipIndex.isOwnedBy(wallet, userId)) {
             throw new UnauthorizedAccessException("You don't have access to this wallet");
         }
     }
@@ -199,26 +401,4 @@ public class TransactionServiceImpl implements TransactionService {
             throw new InvalidTransactionException("Wallet is not active");
         }
     }
-
-    private TransactionResponse mapToTransactionResponse(Transaction transaction) {
-        return TransactionResponse.builder()
-                .id(transaction.getId())
-                .referenceNumber(transaction.getReferenceNumber())
-                .sourceWalletId(transaction.getSourceWallet() != null ?
-                        transaction.getSourceWallet().getId() : null)
-                .sourceWalletName(transaction.getSourceWallet() != null ?
-                        transaction.getSourceWallet().getName() : null)
-                .destinationWalletId(transaction.getDestinationWallet() != null ?
-                        transaction.getDestinationWallet().getId() : null)
-                .destinationWalletName(transaction.getDestinationWallet() != null ?
-                        transaction.getDestinationWallet().getName() : null)
-                .amount(transaction.getAmount())
-                .fee(transaction.getFee())
-                .type(transaction.getType())
-                .status(transaction.getStatus())
-                .description(transaction.getDescription())
-                .createdAt(transaction.getCreatedAt())
-                .completedAt(transaction.getCompletedAt())
-                .build();
-    }
 }
@@ -1,5 +1,7 @@
 package com.securewallet.service.impl;
 
+import com.securewallet.cache.WalletCache;
+import com.securewallet.cache.WalletCache.CachedWallet;
 import com.securewallet.dto.request.CreateWalletRequest;
 import com.securewallet.dto.response.BalanceResponse;
 import com.securewallet.dto.response.WalletResponse;
@@ -7,19 +9,33 @@ import com.securewallet.entity.User;
 import com.securewallet.entity.Wallet;
 import com.securewallet.enums.WalletStatus;
 import com.securewallet.enums.WalletType;
+import com.securewallet.event.WalletChangedEvent;
 import com.securewallet.exception.UnauthorizedAccessException;
-import com.securewallet.exception.UserNotFoundException;
 import com.securewallet.exception.WalletNotFoundException;
+import com.securewallet.logging.LogCategories;
 import com.securewallet.pattern.factory.WalletFactoryProvider;
 import com.securewallet.repository.UserRepository;
 import com.securewallet.repository.WalletRepository;
+import com.securewallet.repository.WalletRepository.WalletVersion;
+import com.securewallet.security.WalletOwnershipIndex;
 import com.securewallet.service.WalletService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,64 +46,148 @@ public class WalletServiceImpl implements WalletService {
     private final WalletRepository walletRepository;
     private final UserRepository userRepository;
     private final WalletFactoryProvider factoryProvider;
+    private final WalletCache walletCache;
+    private final WalletOwnershipIndex ownershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    // Cached reads are answered before a transaction (and connection) is opened;
+    // misses load through this read-only template.
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
 
     @Override
-    @Transactional(readOnly = true)
     public List<WalletResponse> getWalletsByUserId(Long userId) {
-        log.info("Getting wallets for user: {}", userId);
-        return walletRepository.findByUserId(userId).stream()
-                .map(this::mapToWalletResponse)
+        LogCategories.WALLET_READS.atInfo().addKeyValue("userId", userId).log("Getting wallets");
+        return getCachedWallets(userId).stream()
+                .map(CachedWallet::response)
                 .collect(Collectors.toList());
     }
 
     @Override
-    @Transactional(readOnly = true)
-    public WalletResponse getWalletById(Long walletId, Long userId) {
-        log.info("Getting wallet {} for user {}", walletId, userId);
-        Wallet wallet = walletRepository.findById(walletId)
+    public Map<Long, Long> getWalletVersions(Long userId) {
+        Map<Long, Long> versions = new LinkedHashMap<>();
+        for (CachedWallet wallet : getCachedWallets(userId)) {
+            versions.put(wallet.response().getId(), wallet.version());
+        }
+        return versions;
+    }
+
+    @Override
+    public Long getWalletVersion(Long walletId, Long userId) {
+        ownershipIndex.checkNotForeign(walletId, userId);
+        CachedWallet cached = walletCache.getWallet(walletId);
+        if (cached != null) {
+            if (!cached.userId().equals(userId)) {
+                throw new UnauthorizedAccessException("You don't have access to this wallet");
+            }
+            return cached.version();
+        }
+
+        WalletVersion version = readOnlyTransaction.execute(status -> walletRepository.findVersionById(walletId))
                 .orElseThrow(() -> new WalletNotFoundException(walletId));
+        if (!version.getUserId().equals(userId)) {
+            throw new UnauthorizedAccessException("You don't have access to this wallet");
+        }
+        return version.getVersion();
+    }
 
-        validateWalletOwnership(wallet, userId);
-        return mapToWalletResponse(wallet);
+    @Override
+    public WalletResponse getWalletById(Long walletId, Long userId) {
+        LogCategories.WALLET_READS.atInfo()
+                .addKeyValue("walletId", walletId)
+                .addKeyValue("userId", userId)
+                .log("Getting wallet");
+        return getOwnedWallet(walletId, userId);
     }
 
     @Override
     @Transactional
     public WalletResponse createWallet(CreateWalletRequest request, Long userId) {
-        log.info("Creating wallet for user: {}", userId);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException(userId));
+        // The principal was loaded for this request; only the foreign key is needed
+        User user = userRepository.getReferenceById(userId);
 
         Wallet wallet = factoryProvider.createWallet(request.getWalletType(), user, request.getName());
         Wallet savedWallet = walletRepository.save(wallet);
+        eventPublisher.publishEvent(WalletChangedEvent.created(savedWallet));
 
-        log.info("Wallet created successfully with id: {}", savedWallet.getId());
+        log.atInfo()
+                .addKeyValue("walletId", savedWallet.getId())
+                .addKeyValue("userId", userId)
+                .addKeyValue("type", request.getWalletType())
+                .log("Wallet created");
         return mapToWalletResponse(savedWallet);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public BalanceResponse getBalance(Long walletId, Long userId) {
-        log.info("Getting balance for wallet: {}", walletId);
-        Wallet wallet = walletRepository.findById(walletId)
-                .orElseThrow(() -> new WalletNotFoundException(walletId));
+        LogCategories.WALLET_READS.atInfo()
+                .addKeyValue("walletId", walletId)
+                .addKeyValue("userId", userId)
+                .log("Getting balance");
+        return mapToBalanceResponse(getOwnedWallet(walletId, userId));
+    }
 
-        validateWalletOwnership(wallet, userId);
+    @Override
+    public List<BalanceResponse> getBalances(List<Long> walletIds, Long userId) {
+        Set<Long> requested = new LinkedHashSet<>(walletIds);
+        LogCategories.WALLET_READS.atInfo()
+                .addKeyValue("wallets", requested.size())
+                .addKeyValue("userId", userId)
+                .log("Getting balances");
+        for (Long walletId : requested) {
+            ownershipIndex.checkNotForeign(walletId, userId);
+        }
 
-        return BalanceResponse.builder()
-                .walletId(wallet.getId())
-                .walletName(wallet.getName())
-                .balance(wallet.getBalance())
-                .availableBalance(wallet.getAvailableBalance())
-                .currency(wallet.getCurrency())
-                .build();
+        Map<Long, CachedWallet> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long walletId : requested) {
+            CachedWallet cached = walletCache.getWallet(walletId);
+            if (cached != null) {
+                found.put(walletId, cached);
+            } else {
+                missing.add(walletId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            List<CachedWallet> loaded = readOnlyTransaction.execute(status ->
+                    walletRepository.findAllById(missing).stream()
+                            .map(wallet -> toCachedWallet(wallet, wallet.getUser().getId()))
+                            .collect(Collectors.toList()));
+            for (CachedWallet wallet : loaded) {
+                walletCache.putWallet(wallet);
+                found.put(wallet.response().getId(), wallet);
+            }
+        }
+
+        List<BalanceResponse> balances = new ArrayList<>(requested.size());
+        for (Long walletId : requested) {
+            CachedWallet wallet = found.get(walletId);
+            if (wallet == null) {
+                throw new WalletNotFoundException(walletId);
+            }
+            if (!wallet.userId().equals(userId)) {
+                throw new UnauthorizedAccessException("You don't have access to this wallet");
+            }
+            balances.add(mapToBalanceResponse(wallet.response()));
+        }
+        return balances;
     }
 
     @Override
     @Transactional
     public WalletResponse updateStatus(Long walletId, WalletStatus status, Long userId) {
-        log.info("Updating status for wallet {} to {}", walletId, status);
+        log.atInfo()
+                .addKeyValue("walletId", walletId)
+                .addKeyValue("status", status)
+                .addKeyValue("userId", userId)
+                .log("Updating wallet status");
+        ownershipIndex.checkNotForeign(walletId, userId);
         Wallet wallet = walletRepository.findById(walletId)
                 .orElseThrow(() -> new WalletNotFoundException(walletId));
 
@@ -95,16 +195,75 @@ public class WalletServiceImpl implements WalletService {
 
         wallet.setStatus(status);
         Wallet savedWallet = walletRepository.save(wallet);
+        eventPublisher.publishEvent(WalletChangedEvent.updated(savedWallet));
 
         return mapToWalletResponse(savedWallet);
     }
 
+    @TransactionalEventListener
+    public void onWalletChanged(WalletChangedEvent event) {
+        Wallet wallet = event.wallet();
+        Long userId = wallet.getUser().getId();
+        walletCache.putWallet(toCachedWallet(wallet, userId));
+        if (event.created()) {
+            ownershipIndex.put(wallet.getId(), userId);
+            walletCache.invalidateUser(userId);
+        }
+    }
+
+    private WalletResponse getOwnedWallet(Long walletId, Long userId) {
+        ownershipIndex.checkNotForeign(walletId, userId);
+        CachedWallet cached = walletCache.getWallet(walletId);
+        if (cached == null) {
+            cached = readOnlyTransaction.execute(status -> {
+                Wallet wallet = walletRepository.findById(walletId)
+                        .orElseThrow(() -> new WalletNotFoundException(walletId));
+                return toCachedWallet(wallet, wallet.getUser().getId());
+            });
+            walletCache.putWallet(cached);
+        }
+
+        if (!cached.userId().equals(userId)) {
+            throw new UnauthorizedAccessException("You don't have access to this wallet");
+        }
+        return cached.response();
+    }
+
+    private List<CachedWallet> getCachedWallets(Long userId) {
+        List<CachedWallet> cached = walletCache.getWalletsByUser(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = walletCache.listGeneration();
+        List<CachedWallet> loaded = readOnlyTransaction.execute(status ->
+                walletRepository.findByUserId(userId).stream()
+                        .map(wallet -> toCachedWallet(wallet, userId))
+                        .collect(Collectors.toList()));
+        walletCache.putWalletsByUser(userId, generation, loaded);
+        return loaded;
+    }
+
+    private CachedWallet toCachedWallet(Wallet wallet, Long userId) {
+        return new CachedWallet(userId, wallet.getVersion(), mapToWalletResponse(wallet));
+    }
+
     private void validateWalletOwnership(Wallet wallet, Long userId) {
-        if (!wallet.getUser().getId().equals(userId)) {
+        if (!ownershipIndex.isOwnedBy(wallet, userId)) {
             throw new UnauthorizedAccessException("You don't have access to this wallet");
         }
     }
 
+    private BalanceResponse mapToBalanceResponse(WalletResponse wallet) {
+        return BalanceResponse.builder()
+                .walletId(wallet.getId())
+                .walletName(wallet.getName())
+                .balance(wallet.getBalance())
+                .availableBalance(wallet.getAvailableBalance())
+                .currency(wallet.getCurrency())
+                .build();
+    }
+
     private WalletResponse mapToWalletResponse(Wallet wallet) {
         return WalletResponse.builder()
                 .id(wallet.getId())
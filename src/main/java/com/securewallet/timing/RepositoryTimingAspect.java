@@ -0,0 +1,32 @@
+package com.securewallet.timing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RepositoryTimingAspect {
+
+    @Around("execution(* com.securewallet.repository.WalletRepository.findByIdWithLock(..))")
+    public Object timeLock(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.record(TimingPhase.LOCK, start);
+        }
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+            + "&& !execution(* com.securewallet.repository.WalletRepository.findByIdWithLock(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            RequestTimings.record(TimingPhase.DB, start);
+        }
+    }
+}
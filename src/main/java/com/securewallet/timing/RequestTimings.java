@@ -0,0 +1,97 @@
+package com.securewallet.timing;
+
+import java.util.Arrays;
+
+/**
+ * Per-request phase durations. One instance is reused per thread and reset at the
+ * start of each request, so recording a phase is two array writes and no allocation.
+ * Recording outside an active request is a no-op.
+ */
+public final class RequestTimings {
+
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+    private static final ThreadLocal<RequestTimings> CURRENT = ThreadLocal.withInitial(RequestTimings::new);
+
+    private final long[] nanos = new long[PHASES.length];
+    private final int[] counts = new int[PHASES.length];
+    private long startNanos;
+    private boolean active;
+    private boolean reported;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static RequestTimings begin() {
+        RequestTimings timings = CURRENT.get();
+        Arrays.fill(timings.nanos, 0L);
+        Arrays.fill(timings.counts, 0);
+        timings.startNanos = System.nanoTime();
+        timings.active = true;
+        timings.reported = false;
+        return timings;
+    }
+
+    public static void record(TimingPhase phase, long startNanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings.active) {
+            timings.nanos[phase.ordinal()] += System.nanoTime() - startNanos;
+            timings.counts[phase.ordinal()]++;
+        }
+    }
+
+    public void end() {
+        active = false;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isReported() {
+        return reported;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Renders the phases recorded so far as a {@code Server-Timing} header value and
+     * marks the request as reported.
+     */
+    public String toHeaderValue() {
+        reported = true;
+        StringBuilder header = new StringBuilder(160);
+        for (TimingPhase phase : PHASES) {
+            int count = counts[phase.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            header.append(phase.getMetricName())
+                    .append(";dur=");
+            appendMillis(header, nanos[phase.ordinal()]);
+            header.append(";desc=\"").append(phase.getDescription());
+            if (count > 1) {
+                header.append(" x").append(count);
+            }
+            header.append("\", ");
+        }
+        header.append("total;dur=");
+        appendMillis(header, getElapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMillis(StringBuilder target, long nanos) {
+        long hundredthsOfMillis = nanos / 10_000;
+        long fraction = hundredthsOfMillis % 100;
+        target.append(hundredthsOfMillis / 100).append('.');
+        if (fraction < 10) {
+            target.append('0');
+        }
+        target.append(fraction);
+    }
+}
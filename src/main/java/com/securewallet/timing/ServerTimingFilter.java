@@ -0,0 +1,65 @@
+package com.securewallet.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Server-Timing";
+
+    @Value("${securewallet.server-timing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${securewallet.server-timing.slow-request-threshold:1s}")
+    private Duration slowRequestThreshold;
+
+    @Value("${securewallet.server-timing.slow-request-sample-rate:0.1}")
+    private double slowRequestSampleRate;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        RequestTimings timings = RequestTimings.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // Bodies written by the JSON converter already carry the header
+            String headerValue = null;
+            if (!timings.isReported() && !response.isCommitted()) {
+                headerValue = timings.toHeaderValue();
+                response.addHeader(HEADER, headerValue);
+            }
+            long elapsedNanos = timings.getElapsedNanos();
+            if (elapsedNanos > slowRequestThreshold.toNanos()
+                    && ThreadLocalRandom.current().nextDouble() < slowRequestSampleRate) {
+                log.warn("Slow request {} {} -> {} took {} ms: {}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        elapsedNanos / 1_000_000, headerValue != null ? headerValue : timings.toHeaderValue());
+            }
+            timings.end();
+        }
+    }
+}
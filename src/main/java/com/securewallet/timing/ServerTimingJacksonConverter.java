@@ -0,0 +1,37 @@
+package com.securewallet.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * Adds the {@code Server-Timing} header just before a timed body is written, so it
+ * covers everything up to serialization. The body streams straight to the response;
+ * serialization itself is timed around that write and appears in the slow-request
+ * log, since the header is already sent by the time it is known.
+ */
+public class ServerTimingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(@NonNull Object object, Type type, @NonNull HttpOutputMessage outputMessage)
+            throws IOException {
+        RequestTimings timings = RequestTimings.current();
+        if (!timings.isActive()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        outputMessage.getHeaders().add(ServerTimingFilter.HEADER, timings.toHeaderValue());
+        long start = System.nanoTime();
+        super.writeInternal(object, type, outputMessage);
+        RequestTimings.record(TimingPhase.SERIALIZATION, start);
+    }
+}
@@ -0,0 +1,25 @@
+package com.securewallet.timing;
+
+public enum TimingPhase {
+    AUTH("auth", "JWT verification"),
+    PRINCIPAL("principal", "Principal load"),
+    LOCK("lock", "Wallet row lock wait"),
+    DB("db", "Repository calls"),
+    SERIALIZATION("ser", "JSON serialization");
+
+    private final String metricName;
+    private final String description;
+
+    TimingPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
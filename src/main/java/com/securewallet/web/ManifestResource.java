@@ -0,0 +1,94 @@
+package com.securewallet.web;
+
+import lombok.Getter;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.resource.HttpResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * One servable representation of a static asset. Length, modification time and
+ * headers are captured when the manifest is built, so serving it never probes the
+ * classpath; only the body is streamed from the underlying resource.
+ */
+public class ManifestResource extends AbstractResource implements HttpResource {
+
+    private final Resource delegate;
+    private final String filename;
+    private final long contentLength;
+    private final long lastModified;
+    @Getter
+    private final String etag;
+    private final HttpHeaders responseHeaders;
+
+    ManifestResource(Resource delegate, String filename, long contentLength, long lastModified,
+                     String etag, HttpHeaders responseHeaders) {
+        this.delegate = delegate;
+        this.filename = filename;
+        this.contentLength = contentLength;
+        this.lastModified = lastModified;
+        this.etag = etag;
+        this.responseHeaders = HttpHeaders.readOnlyHttpHeaders(responseHeaders);
+    }
+
+    @Override
+    @NonNull
+    public InputStream getInputStream() throws IOException {
+        return delegate.getInputStream();
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public boolean isReadable() {
+        return true;
+    }
+
+    /**
+     * Name of the original file, so the media type is derived from it rather than
+     * from a {@code .gz}/{@code .br} suffix.
+     */
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public long lastModified() {
+        return lastModified;
+    }
+
+    @Override
+    @NonNull
+    public HttpHeaders getResponseHeaders() {
+        return responseHeaders;
+    }
+
+    @Override
+    @NonNull
+    public String getDescription() {
+        return "static asset [" + delegate.getDescription() + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return this == other;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+}
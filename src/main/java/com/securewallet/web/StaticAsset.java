@@ -0,0 +1,51 @@
+package com.securewallet.web;
+
+import org.springframework.util.StringUtils;
+
+/**
+ * A built frontend file and whichever precompressed variants were shipped next to it.
+ */
+public record StaticAsset(
+        String path,
+        ManifestResource identity,
+        ManifestResource gzip,
+        ManifestResource brotli) {
+
+    /**
+     * Picks the smallest variant the client accepts; brotli is preferred over gzip.
+     */
+    public ManifestResource select(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding) || (gzip == null && brotli == null)) {
+            return identity;
+        }
+        if (brotli != null && accepts(acceptEncoding, "br")) {
+            return brotli;
+        }
+        if (gzip != null && accepts(acceptEncoding, "gzip")) {
+            return gzip;
+        }
+        return identity;
+    }
+
+    private static boolean accepts(String acceptEncoding, String coding) {
+        for (String token : StringUtils.tokenizeToStringArray(acceptEncoding, ",")) {
+            int semicolon = token.indexOf(';');
+            String name = semicolon < 0 ? token : token.substring(0, semicolon).trim();
+            if (name.equalsIgnoreCase(coding)) {
+                return semicolon < 0 || quality(token.substring(semicolon + 1).trim()) > 0;
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String parameters) {
+        if (!parameters.startsWith("q=")) {
+            return 1.0;
+        }
+        try {
+            return Double.parseDouble(parameters.substring(2));
+        } catch (NumberFormatException ex) {
+            return 0.0;
+        }
+    }
+}
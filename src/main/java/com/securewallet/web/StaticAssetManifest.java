@@ -0,0 +1,124 @@
+package com.securewallet.web;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory index of the bundled frontend, built once at startup. Each file is
+ * paired with the {@code .br}/{@code .gz} variants produced by the frontend build
+ * and given its cache policy: content-hashed files under {@code assets/} are
+ * immutable, everything else (notably {@code index.html}) must revalidate.
+ */
+@Component
+@Slf4j
+public class StaticAssetManifest {
+
+    private static final String LOCATION = "classpath:/static/";
+    private static final String INDEX = "index.html";
+    private static final Pattern HASHED_ASSET = Pattern.compile("^assets/.+-[A-Za-z0-9_-]{8,}\\.[A-Za-z0-9]+$");
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private Map<String, StaticAsset> assets = Map.of();
+
+    @PostConstruct
+    public void init() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        Resource root = resolver.getResource(LOCATION);
+        if (!root.exists()) {
+            log.info("No bundled frontend found at {}", LOCATION);
+            return;
+        }
+
+        String rootUrl = root.getURL().toString();
+        Map<String, Resource> files = new HashMap<>();
+        for (Resource resource : resolver.getResources(LOCATION + "**")) {
+            String url = resource.getURL().toString();
+            if (resource.isReadable() && url.startsWith(rootUrl) && !url.endsWith("/")) {
+                files.put(url.substring(rootUrl.length()), resource);
+            }
+        }
+
+        Map<String, StaticAsset> manifest = new HashMap<>();
+        long identityBytes = 0;
+        long smallestBytes = 0;
+        for (Map.Entry<String, Resource> file : files.entrySet()) {
+            String path = file.getKey();
+            if (path.endsWith(".gz") || path.endsWith(".br")) {
+                continue;
+            }
+            StaticAsset asset = buildAsset(path, file.getValue(), files.get(path + ".gz"), files.get(path + ".br"));
+            manifest.put(path, asset);
+            identityBytes += asset.identity().contentLength();
+            smallestBytes += asset.select("br, gzip").contentLength();
+        }
+        assets = Map.copyOf(manifest);
+        log.info("Indexed {} static assets ({} KiB, {} KiB precompressed)",
+                assets.size(), identityBytes / 1024, smallestBytes / 1024);
+    }
+
+    public StaticAsset lookup(String path) {
+        return assets.get(path);
+    }
+
+    public StaticAsset index() {
+        return assets.get(INDEX);
+    }
+
+    public static String etagOf(Resource resource) {
+        return resource instanceof ManifestResource manifestResource ? manifestResource.getEtag() : null;
+    }
+
+    private StaticAsset buildAsset(String path, Resource identity, Resource gzip, Resource brotli) throws IOException {
+        String filename = identity.getFilename();
+        long lastModified = identity.lastModified();
+        String contentHash = contentHash(identity);
+        boolean negotiated = gzip != null || brotli != null;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setCacheControl(HASHED_ASSET.matcher(path).matches() ? IMMUTABLE : REVALIDATE);
+        if (negotiated) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        return new StaticAsset(
+                path,
+                representation(identity, filename, lastModified, "\"" + contentHash + "\"", headers, null),
+                gzip != null ? representation(gzip, filename, lastModified,
+                        "\"" + contentHash + "-gzip\"", headers, "gzip") : null,
+                brotli != null ? representation(brotli, filename, lastModified,
+                        "\"" + contentHash + "-br\"", headers, "br") : null);
+    }
+
+    private ManifestResource representation(Resource resource, String filename, long lastModified,
+                                            String etag, HttpHeaders sharedHeaders, String contentEncoding)
+            throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(sharedHeaders);
+        if (contentEncoding != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, contentEncoding);
+        }
+        return new ManifestResource(resource, filename, resource.contentLength(), lastModified, etag, headers);
+    }
+
+    private static String contentHash(Resource resource) throws IOException {
+        try (InputStream input = resource.getInputStream()) {
+            return DigestUtils.md5DigestAsHex(StreamUtils.copyToByteArray(input)).substring(0, 16);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.securewallet.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.resource.ResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import java.util.List;
+
+/**
+ * Resolves static requests against the {@link StaticAssetManifest} only, choosing a
+ * precompressed variant from {@code Accept-Encoding}. Unknown non-API paths fall
+ * back to {@code index.html} for client-side routing.
+ */
+@RequiredArgsConstructor
+public class StaticAssetResolver implements ResourceResolver {
+
+    private static final List<String> SERVER_PREFIXES = List.of(
+            "api/", "swagger", "v3/api-docs", "h2-console", "actuator");
+
+    private final StaticAssetManifest manifest;
+
+    @Override
+    public Resource resolveResource(HttpServletRequest request, @NonNull String requestPath,
+                                    @NonNull List<? extends Resource> locations,
+                                    @NonNull ResourceResolverChain chain) {
+        StaticAsset asset = manifest.lookup(requestPath);
+        if (asset == null && isClientRoute(requestPath)) {
+            asset = manifest.index();
+        }
+        if (asset == null) {
+            return null;
+        }
+        return asset.select(request != null ? request.getHeader(HttpHeaders.ACCEPT_ENCODING) : null);
+    }
+
+    @Override
+    public String resolveUrlPath(@NonNull String resourcePath, @NonNull List<? extends Resource> locations,
+                                 @NonNull ResourceResolverChain chain) {
+        return manifest.lookup(resourcePath) != null ? resourcePath : null;
+    }
+
+    /**
+     * Whether a path (relative to the context root, without leading slash) belongs
+     * to the frontend rather than to a server endpoint.
+     */
+    public static boolean isClientRoute(String path) {
+        for (String prefix : SERVER_PREFIXES) {
+            if (path.startsWith(prefix)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
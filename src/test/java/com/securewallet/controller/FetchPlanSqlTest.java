@@ -0,0 +1,137 @@
+package com.securewallet.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the SQL the user-centric endpoints issue, so a change to the fetch plan
+ * (an eager association, an entity graph, a lost cache hit) fails the build.
+ * Statements are captured for the request thread only; the relay, indexer and
+ * other background work run on their own threads and are not counted.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fetchplan;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        // classpath: URIs only resolve inside the packaged jar; from target/classes the plain name does
+        "spring.jpa.properties.hibernate.javax.cache.uri=hibernate-cache.conf",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.securewallet.controller.FetchPlanSqlTest$CapturingInspector",
+        "securewallet.rate-limit.enabled=false",
+        "securewallet.search.directory=target/fetchplan-search-index"
+})
+@AutoConfigureMockMvc
+class FetchPlanSqlTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String email;
+    private String token;
+
+    @BeforeEach
+    void registerAndLogIn() throws Exception {
+        email = "fetchplan-" + UUID.randomUUID() + "@example.com";
+        mockMvc.perform(post("/api/v1/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"secret123\","
+                                + "\"firstName\":\"Fetch\",\"lastName\":\"Plan\"}"))
+                .andExpect(status().isCreated());
+        token = logIn();
+    }
+
+    @Test
+    void loginReadsTheUserWithoutJoiningRolesAndStoresOneRefreshToken() throws Exception {
+        List<String> sql = CapturingInspector.capture(this::logIn);
+
+        assertThat(sql).hasSize(2);
+        assertThat(sql.get(0)).startsWith("select").contains(" from users ").doesNotContain("join");
+        assertThat(sql.get(1)).startsWith("insert into refresh_tokens");
+    }
+
+    @Test
+    void currentUserIsTwoUserSelectsWithRolesFromTheCache() throws Exception {
+        List<String> sql = CapturingInspector.capture(() -> mockMvc.perform(get("/api/v1/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk()));
+
+        // The principal lookup, then the profile; both read roles from the collection cache
+        assertThat(sql).hasSize(2);
+        assertThat(sql).allSatisfy(statement -> assertThat(statement)
+                .startsWith("select").contains(" from users ").doesNotContain("join"));
+    }
+
+    @Test
+    void walletCreationInsertsTheWalletWithoutLoadingItsOwner() throws Exception {
+        List<String> sql = CapturingInspector.capture(() -> mockMvc.perform(post("/api/v1/wallets")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Fetch plan\",\"walletType\":\"SAVINGS\"}"))
+                .andExpect(status().isCreated()));
+
+        assertThat(sql).hasSize(2);
+        assertThat(sql.get(0)).startsWith("select").contains(" from users ").doesNotContain("join");
+        assertThat(sql.get(1)).startsWith("insert into wallets");
+    }
+
+    private String logIn() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"" + email + "\",\"password\":\"secret123\"}"))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+        return body.path("data").path("accessToken").asText();
+    }
+
+    @FunctionalInterface
+    interface Request {
+        void perform() throws Exception;
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+        static List<String> capture(Request request) throws Exception {
+            List<String> statements = new ArrayList<>();
+            CAPTURED.set(statements);
+            try {
+                request.perform();
+            } finally {
+                CAPTURED.remove();
+            }
+            return statements;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = CAPTURED.get();
+            if (statements != null) {
+                statements.add(sql.replaceAll("\\s+", " ").trim().toLowerCase(Locale.ROOT));
+            }
+            return sql;
+        }
+    }
+}